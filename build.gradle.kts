@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.6"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.apple"
@@ -43,6 +44,19 @@ dependencies {
 	implementation("software.amazon.awssdk:apache-client")       // Apache HTTP 클라이언트 (동기 전용)
 	implementation("software.amazon.awssdk:netty-nio-client")    // Netty NIO 클라이언트 (비동기 전용)
 	// URL Connection 클라이언트는 제거 (성능이 낮음)
+	// 전문 검색 (Lucene 임베디드 색인)
+	implementation("org.apache.lucene:lucene-core:9.12.0")
+	implementation("org.apache.lucene:lucene-analysis-common:9.12.0")
+	implementation("org.apache.lucene:lucene-queryparser:9.12.0")
+	implementation("org.apache.lucene:lucene-highlighter:9.12.0")
+	// 마크다운 렌더링
+	implementation("org.commonmark:commonmark:0.24.0")
+	implementation("org.commonmark:commonmark-ext-gfm-tables:0.24.0")
+	implementation("org.commonmark:commonmark-ext-gfm-strikethrough:0.24.0")
+	// 로컬 캐시 (포스트 상세 L1)
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	// 팔로우 그래프 (압축 비트맵 인접 목록)
+	implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
 	// 비동기 처리
 	implementation("org.springframework.boot:spring-boot-starter-webflux")
 	compileOnly("org.projectlombok:lombok")
@@ -51,6 +65,7 @@ dependencies {
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
+	testRuntimeOnly("com.h2database:h2")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -63,3 +78,10 @@ dependencyManagement {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 마이크로 벤치마크 (./gradlew jmh, 소스: src/jmh)
+jmh {
+	jmhVersion = "1.37"
+	resultFormat = "JSON"
+	profilers = listOf("gc")           // 연산당 할당량(gc.alloc.rate.norm) 함께 측정
+}
@@ -0,0 +1,38 @@
+package com.apple.appleplayground;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 샘플 데이터
+ */
+public final class BenchmarkSamples {
+    
+    private static final String[] WORDS = {
+            "Spring", "Boot", "JPA", "Redis", "캐시", "성능", "트랜잭션", "인덱스", "조회", "포스트",
+            "the", "and", "with", "query", "latency", "throughput", "배치", "커넥션", "서버", "클라이언트"
+    };
+    
+    private BenchmarkSamples() {
+    }
+    
+    /**
+     * 제목, 목록, 강조, 링크, 코드 블록이 섞인 마크다운 본문 생성 (고정 시드)
+     */
+    public static String markdown(int length) {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length + 200);
+        int paragraph = 0;
+        while (builder.length() < length) {
+            builder.append("## 섹션 ").append(++paragraph).append("\n\n");
+            for (int i = 0; i < 40; i++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                builder.append(i % 13 == 0 ? "**" + word + "**" : word).append(' ');
+            }
+            builder.append("[링크](https://example.com/").append(random.nextInt(100)).append(")\n\n");
+            builder.append("- 항목 ").append(random.nextInt(100)).append('\n');
+            builder.append("- 항목 ").append(random.nextInt(100)).append("\n\n");
+            builder.append("```java\nrepository.findById(").append(random.nextInt(10_000)).append("L);\n```\n\n");
+        }
+        return builder.substring(0, length);
+    }
+}
@@ -0,0 +1,51 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.BenchmarkSamples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마크다운 렌더링 비용 측정 (캐시 미스 시 1회 발생하는 비용)
+ * ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarkdownRenderBenchmark {
+    
+    /**
+     * 본문 길이 (문자 수)
+     */
+    @Param({"1000", "10000", "100000"})
+    private int length;
+    
+    private MarkdownRenderService renderService;
+    private String content;
+    
+    @Setup
+    public void setUp() {
+        // 렌더링만 측정하므로 Redis 없이 생성
+        renderService = new MarkdownRenderService(null, Duration.ofDays(1));
+        content = BenchmarkSamples.markdown(length);
+    }
+    
+    @Benchmark
+    public String render() {
+        return renderService.render(content);
+    }
+}
@@ -0,0 +1,85 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.BenchmarkSamples;
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostResponse;
+import com.apple.appleplayground.domain.follow.dto.response.UserInfoResponse;
+import com.apple.appleplayground.global.json.JsonTemplate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 포스트 상세 응답 쓰기 비용 비교 (요청마다 Jackson 직렬화 vs 캐시된 JSON 바이트에 카운터만 끼워 쓰기)
+ * ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm이 요청당 할당량)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostDetailSerializationBenchmark {
+    
+    /**
+     * 본문 길이 (문자 수)
+     */
+    @Param({"1000", "10000", "100000"})
+    private int length;
+    
+    private final OutputStream out = OutputStream.nullOutputStream();
+    
+    private ObjectMapper objectMapper;
+    private BlogPostResponse snapshot;
+    private JsonTemplate template;
+    private int viewCount;
+    
+    @Setup
+    public void setUp() throws IOException {
+        // 애플리케이션과 같은 설정 (날짜는 ISO 문자열)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 30);
+        snapshot = BlogPostResponse.builder()
+                .id(1L)
+                .title("Spring Boot 성능 튜닝")
+                .content(BenchmarkSamples.markdown(length))
+                .contentHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+                .author(UserInfoResponse.builder().id(1L).username("octocat").name("The Octocat").createdAt(now).build())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        
+        template = JsonTemplate.of(objectMapper.writeValueAsBytes(snapshot.toBuilder()
+                .viewCount(JsonTemplate.PLACEHOLDER)
+                .likeCount(JsonTemplate.PLACEHOLDER)
+                .build()), "viewCount", "likeCount");
+    }
+    
+    @Benchmark
+    public void jackson() throws IOException {
+        objectMapper.writeValue(out, snapshot.toBuilder()
+                .viewCount(++viewCount)
+                .likeCount(25)
+                .build());
+    }
+    
+    @Benchmark
+    public void preSerialized() throws IOException {
+        template.render(++viewCount, 25).writeTo(out);
+    }
+}
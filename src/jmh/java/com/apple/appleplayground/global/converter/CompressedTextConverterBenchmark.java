@@ -0,0 +1,80 @@
+package com.apple.appleplayground.global.converter;
+
+import com.apple.appleplayground.BenchmarkSamples;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 압축 컨버터 인코딩/디코딩 비용 및 압축률 측정
+ * ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressedTextConverterBenchmark {
+    
+    /**
+     * 본문 길이 (문자 수)
+     */
+    @Param({"1000", "10000", "100000"})
+    private int length;
+    
+    private String content;
+    private String encoded;
+    
+    @Setup
+    public void setUp() {
+        content = BenchmarkSamples.markdown(length);
+        encoded = CompressedTextConverter.encode(content);
+    }
+    
+    @Benchmark
+    public String encode() {
+        return CompressedTextConverter.encode(content);
+    }
+    
+    @Benchmark
+    public String decode() {
+        return CompressedTextConverter.decode(encoded);
+    }
+    
+    /**
+     * 압축률 보고용 카운터 (저장 바이트 / 원문 바이트, 백분율)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Ratio {
+        
+        public long storedPercent;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            storedPercent = 0;
+        }
+    }
+    
+    @Benchmark
+    public String encodeWithRatio(Ratio ratio) {
+        String stored = CompressedTextConverter.encode(content);
+        ratio.storedPercent = (long) stored.getBytes(StandardCharsets.UTF_8).length * 100
+                / content.getBytes(StandardCharsets.UTF_8).length;
+        return stored;
+    }
+}
@@ -0,0 +1,116 @@
+package com.apple.appleplayground.global.index;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팔로우 그래프 조회 비용 및 메모리 사용량 측정
+ * 간선 수의 1/10명 사용자에게 팔로우가 소수 인기 사용자에게 몰리도록(거듭제곱 분포) 간선을 만든다.
+ * 메모리 사용량은 Footprint 카운터(간선당 바이트, 전체 MB)로 함께 보고한다.
+ * ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BitmapGraphBenchmark {
+    
+    private static final int PROBES = 1 << 16;
+    
+    // TSID와 비슷한 크기의 시작 ID
+    private static final long BASE_ID = 700_000_000_000_000L;
+    
+    /**
+     * 팔로우 관계(간선) 수
+     */
+    @Param({"1000000", "10000000"})
+    private int edges;
+    
+    private BitmapGraph graph;
+    private long[] probeFrom;
+    private long[] probeTo;
+    private int probe;
+    
+    @Setup
+    public void setUp() {
+        int users = edges / 10;
+        Random random = new Random(42);
+        graph = new BitmapGraph();
+        while (graph.edgeCount() < edges) {
+            graph.addEdge(userId(random.nextInt(users)), userId(popularUser(random, users)));
+        }
+        graph.optimize();
+        
+        probeFrom = new long[PROBES];
+        probeTo = new long[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeFrom[i] = userId(random.nextInt(users));
+            probeTo[i] = userId(popularUser(random, users));
+        }
+    }
+    
+    @Benchmark
+    public boolean hasEdge() {
+        int i = probe++ & (PROBES - 1);
+        return graph.hasEdge(probeFrom[i], probeTo[i]);
+    }
+    
+    @Benchmark
+    public long countMutual() {
+        return graph.countMutual(probeTo[probe++ & (PROBES - 1)]);
+    }
+    
+    @Benchmark
+    public long countCommonOutgoing() {
+        int i = probe++ & (PROBES - 1);
+        return graph.countCommonOutgoing(probeFrom[i], probeFrom[(i + 1) & (PROBES - 1)]);
+    }
+    
+    /**
+     * 메모리 사용량 보고용 카운터 (반복마다 한 번 계산)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        
+        public long bytesPerEdge;
+        public long totalMegabytes;
+        
+        @Setup(Level.Iteration)
+        public void measure(BitmapGraphBenchmark benchmark) {
+            BitmapGraph.MemoryUsage usage = benchmark.graph.memoryUsage();
+            bytesPerEdge = Math.round(usage.bytesPerEdge());
+            totalMegabytes = usage.totalBytes() / (1024 * 1024);
+        }
+    }
+    
+    @Benchmark
+    public boolean hasEdgeWithFootprint(Footprint footprint) {
+        return hasEdge();
+    }
+    
+    private static long userId(int ordinal) {
+        return BASE_ID + (long) ordinal * 4096;
+    }
+    
+    private static int popularUser(Random random, int users) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return (int) (skewed * users);
+    }
+}
@@ -0,0 +1,36 @@
+package com.apple.appleplayground.domain.auth.controller;
+
+import com.apple.appleplayground.domain.auth.dto.response.UserBatchResponse;
+import com.apple.appleplayground.domain.auth.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "User", description = "사용자 조회 API")
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+    
+    private final UserService userService;
+    
+    @Operation(summary = "사용자 일괄 조회", description = "ID 목록(최대 100개)으로 여러 사용자를 한 번에 조회합니다. 요청한 순서대로 반환하며 존재하지 않는 ID는 missingIds로 알려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "ID 목록이 비어 있거나 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserBatchResponse> getUsersByIds(
+            @Parameter(description = "사용자 ID 목록 (쉼표로 구분)", example = "3,1,2") @RequestParam List<Long> ids) {
+        UserBatchResponse response = userService.getUsersByIds(ids);
+        return ResponseEntity.ok(response);
+    }
+}
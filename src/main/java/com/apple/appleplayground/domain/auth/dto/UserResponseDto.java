@@ -52,6 +52,12 @@ public class UserResponseDto {
     @Schema(description = "팔로잉 수", example = "0")
     private Integer following;
     
+    @Schema(description = "작성한 포스트 수", example = "42")
+    private Integer postsCount;
+    
+    @Schema(description = "업로드한 이미지 수", example = "12")
+    private Integer imagesCount;
+    
     @Schema(description = "사용자 역할", example = "USER")
     private String role;
 }
@@ -0,0 +1,33 @@
+package com.apple.appleplayground.domain.auth.dto.response;
+
+import com.apple.appleplayground.domain.follow.dto.response.UserInfoResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "사용자 일괄 조회 응답")
+public class UserBatchResponse {
+    
+    @Schema(description = "사용자 목록 (요청한 ID 순서, 중복 ID는 한 번만)")
+    private List<UserInfoResponse> users;
+    
+    @Schema(description = "존재하지 않는 사용자 ID (요청 순서)", example = "[42]")
+    private List<Long> missingIds;
+    
+    /**
+     * 사용자 일괄 조회 응답 생성
+     */
+    public static UserBatchResponse of(List<UserInfoResponse> users, List<Long> missingIds) {
+        return UserBatchResponse.builder()
+                .users(users)
+                .missingIds(missingIds)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.apple.appleplayground.domain.auth.entity;
 
+import com.apple.appleplayground.global.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -73,13 +74,24 @@ public class User {
     @Column
     private String githubProfileUrl;
     
-    // 팔로우 관련 캐시 컬럼
+    // 팔로우 관련 캐시 컬럼 (팔로우/언팔로우 변화량을 주기적으로 합쳐 반영)
     @Column
+    @Builder.Default
     private Integer followersCount = 0;
     
     @Column
+    @Builder.Default
     private Integer followingCount = 0;
     
+    // 작성 콘텐츠 수 캐시 컬럼 (생성/삭제 시 원자적 UPDATE로 갱신, 주기적으로 재계산)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer postsCount = 0;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer imagesCount = 0;
+    
     @Column
     private Integer publicRepos;
     
@@ -127,24 +139,4 @@ public class User {
         this.linkedinUrl = linkedinUrl;
         this.githubProfileUrl = githubProfileUrl;
     }
-    
-    public void incrementFollowersCount() {
-        this.followersCount++;
-    }
-    
-    public void decrementFollowersCount() {
-        if (this.followersCount > 0) {
-            this.followersCount--;
-        }
-    }
-    
-    public void incrementFollowingCount() {
-        this.followingCount++;
-    }
-    
-    public void decrementFollowingCount() {
-        if (this.followingCount > 0) {
-            this.followingCount--;
-        }
-    }
 }
@@ -1,9 +1,15 @@
 package com.apple.appleplayground.domain.auth.repository;
 
 import com.apple.appleplayground.domain.auth.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +26,62 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    /**
+     * 주어진 ID 중 존재하는 사용자 ID 조회
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 포스트 수 변화량 반영 (원자적 연산, 0 미만으로 내려가지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.postsCount = CASE WHEN u.postsCount + :delta < 0 THEN 0 ELSE u.postsCount + :delta END WHERE u.id = :id")
+    int addPostsCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    /**
+     * 이미지 수 변화량 반영 (원자적 연산, 0 미만으로 내려가지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.imagesCount = CASE WHEN u.imagesCount + :delta < 0 THEN 0 ELSE u.imagesCount + :delta END WHERE u.id = :id")
+    int addImagesCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    /**
+     * 팔로워 수 변화량 반영 (원자적 연산, 0 미만으로 내려가지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.followersCount = CASE WHEN COALESCE(u.followersCount, 0) + :delta < 0 THEN 0 " +
+           "ELSE COALESCE(u.followersCount, 0) + :delta END WHERE u.id = :id")
+    int addFollowersCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    /**
+     * 팔로잉 수 변화량 반영 (원자적 연산, 0 미만으로 내려가지 않도록)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = CASE WHEN COALESCE(u.followingCount, 0) + :delta < 0 THEN 0 " +
+           "ELSE COALESCE(u.followingCount, 0) + :delta END WHERE u.id = :id")
+    int addFollowingCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    /**
+     * afterId 이후 사용자 ID 조회 (ID 순, 청크 단위 스캔용)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * ID 범위 (afterId, lastId] 사용자의 포스트/이미지 수를 실제 개수로 재계산 (값이 다른 행만 갱신)
+     *
+     * @return 보정된 사용자 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE users SET
+                posts_count = (SELECT COUNT(*) FROM blog_posts bp WHERE bp.author_id = users.id),
+                images_count = (SELECT COUNT(*) FROM images i WHERE i.uploaded_by = users.id)
+            WHERE id > :afterId AND id <= :lastId
+              AND (posts_count <> (SELECT COUNT(*) FROM blog_posts bp WHERE bp.author_id = users.id)
+                OR images_count <> (SELECT COUNT(*) FROM images i WHERE i.uploaded_by = users.id))
+            """, nativeQuery = true)
+    int reconcileContentCounts(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
 }
@@ -0,0 +1,76 @@
+package com.apple.appleplayground.domain.auth.service;
+
+import com.apple.appleplayground.domain.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 사용자 포스트/이미지 수 재계산 서비스
+ * 생성/삭제 경로에서 갱신하는 캐시 컬럼이 실패나 수동 데이터 변경으로 실제 개수와 어긋난 경우를 바로잡는다.
+ * 사용자 ID 범위별로 나눠 짧은 트랜잭션으로 처리하므로 테이블 전체를 오래 잠그지 않는다.
+ * 캐시 컬럼이 추가되기 전부터 있던 사용자도 바로 맞는 값을 보이도록 시작 시에도 한 번 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserCounterReconciliationService {
+    
+    private static final int CHUNK_SIZE = 500;
+    
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * 애플리케이션 시작 후 한 번 재계산 (배포 직후 캐시 컬럼이 0인 기존 사용자 보정)
+     */
+    @Async("asyncExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile user content counters on startup: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 전체 사용자의 포스트/이미지 수 재계산
+     *
+     * @return 보정된 사용자 수
+     */
+    @Scheduled(cron = "${user.counter-reconcile.cron:0 30 4 * * *}")
+    public long reconcile() {
+        long startTime = System.currentTimeMillis();
+        long scanned = 0;
+        long corrected = 0;
+        
+        Long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = userRepository.findIdsAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            
+            Long from = afterId;
+            Long to = ids.get(ids.size() - 1);
+            Integer changed = transactionTemplate.execute(status -> userRepository.reconcileContentCounts(from, to));
+            corrected += changed != null ? changed : 0;
+            scanned += ids.size();
+            afterId = to;
+        } while (ids.size() == CHUNK_SIZE);
+        
+        log.info("User content counters reconciled: {} users scanned, {} corrected in {} ms",
+                scanned, corrected, System.currentTimeMillis() - startTime);
+        return corrected;
+    }
+}
@@ -1,18 +1,30 @@
 package com.apple.appleplayground.domain.auth.service;
 
 import com.apple.appleplayground.domain.auth.dto.UserResponseDto;
+import com.apple.appleplayground.domain.auth.dto.response.UserBatchResponse;
 import com.apple.appleplayground.domain.auth.entity.User;
 import com.apple.appleplayground.domain.auth.repository.UserRepository;
+import com.apple.appleplayground.domain.follow.dto.response.UserInfoResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
     
+    private static final int MAX_BATCH_SIZE = 100;
+    
     private final UserRepository userRepository;
     
     public UserResponseDto getUserByGithubId(String githubId) {
@@ -36,6 +48,37 @@ public class UserService {
         return convertToDto(user);
     }
     
+    /**
+     * 여러 사용자 일괄 조회 (IN 절 한 번, 요청 순서 유지)
+     */
+    public UserBatchResponse getUsersByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 사용자 ID를 입력해주세요.");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("사용자 ID에 빈 값이 포함되어 있습니다.");
+        }
+        List<Long> requested = List.copyOf(new LinkedHashSet<>(ids));
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_BATCH_SIZE + "명입니다.");
+        }
+        
+        Map<Long, User> usersById = userRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        
+        List<UserInfoResponse> users = new ArrayList<>(usersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            User user = usersById.get(id);
+            if (user != null) {
+                users.add(UserInfoResponse.from(user));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return UserBatchResponse.of(users, missingIds);
+    }
+    
     private UserResponseDto convertToDto(User user) {
         return UserResponseDto.builder()
                 .id(user.getId())
@@ -51,6 +94,8 @@ public class UserService {
                 .publicRepos(user.getPublicRepos())
                 .followers(user.getFollowers())
                 .following(user.getFollowing())
+                .postsCount(user.getPostsCount())
+                .imagesCount(user.getImagesCount())
                 .role(user.getRole().name())
                 .build();
     }
@@ -0,0 +1,115 @@
+package com.apple.appleplayground.domain.blog.controller;
+
+import com.apple.appleplayground.domain.blog.dto.response.BlogImportResponse;
+import com.apple.appleplayground.domain.blog.dto.response.SearchIndexRebuildResponse;
+import com.apple.appleplayground.domain.blog.dto.response.ViewEventStatsResponse;
+import com.apple.appleplayground.domain.blog.service.BlogExportService;
+import com.apple.appleplayground.domain.blog.service.BlogImportService;
+import com.apple.appleplayground.domain.blog.service.BlogSearchService;
+import com.apple.appleplayground.domain.blog.service.ViewCountService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 블로그 관리자 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/admin/blog")
+@RequiredArgsConstructor
+@Tag(name = "Blog Admin API", description = "블로그 관리자 API")
+public class BlogAdminController {
+    
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int IMPORT_BUFFER_SIZE = 64 * 1024;
+    
+    private final BlogSearchService blogSearchService;
+    private final BlogExportService blogExportService;
+    private final BlogImportService blogImportService;
+    private final ViewCountService viewCountService;
+    
+    @Operation(summary = "검색 색인 재생성", description = "DB의 전체 포스트를 스캔하여 전문 검색 색인을 다시 생성합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "색인 재생성 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<SearchIndexRebuildResponse> rebuildSearchIndex() {
+        long startTime = System.currentTimeMillis();
+        long indexed = blogSearchService.rebuild();
+        return ResponseEntity.ok(SearchIndexRebuildResponse.of(indexed, System.currentTimeMillis() - startTime));
+    }
+    
+    @Operation(summary = "포스트 내보내기", description = "전체 포스트를 ID 순으로 NDJSON(한 줄에 포스트 하나) 스트림으로 내보냅니다. 중단된 경우 마지막으로 받은 ID를 afterId로 지정해 이어받을 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @Parameter(description = "이 ID 이후의 포스트부터 내보냄 (이어받기용)") @RequestParam(defaultValue = "0") long afterId,
+            @Parameter(description = "gzip 압축 여부") @RequestParam(defaultValue = "false") boolean gzip) {
+        
+        StreamingResponseBody body = outputStream -> {
+            OutputStream output = gzip
+                    ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE)
+                    : new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            try (output) {
+                blogExportService.export(afterId, output);
+            }
+        };
+        
+        String filename = "blog-posts-after-" + afterId + (gzip ? ".ndjson.gz" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+    
+    @Operation(summary = "포스트 일괄 가져오기", description = "내보내기와 같은 NDJSON 형식의 요청 본문을 읽어 포스트를 일괄 저장합니다. 원본 ID는 무시하고 새 ID를 부여하며, Content-Encoding: gzip 본문도 받습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "가져오기 완료"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<BlogImportResponse> importPosts(
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        
+        InputStream input = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(body, IMPORT_BUFFER_SIZE)
+                : body;
+        return ResponseEntity.ok(blogImportService.importPosts(input));
+    }
+    
+    @Operation(summary = "조회 이벤트 버퍼 상태", description = "조회수 집계용 링 버퍼의 적재량, 배압(버퍼 초과) 횟수, 반영 횟수를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/view-events/stats")
+    public ResponseEntity<ViewEventStatsResponse> getViewEventStats() {
+        return ResponseEntity.ok(ViewEventStatsResponse.from(viewCountService.getBufferStats()));
+    }
+}
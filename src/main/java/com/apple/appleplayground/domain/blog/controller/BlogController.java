@@ -3,11 +3,17 @@ package com.apple.appleplayground.domain.blog.controller;
 import com.apple.appleplayground.domain.auth.dto.UserPrincipal;
 import com.apple.appleplayground.domain.blog.dto.request.CreateBlogPostRequest;
 import com.apple.appleplayground.domain.blog.dto.request.UpdateBlogPostRequest;
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostBatchResponse;
 import com.apple.appleplayground.domain.blog.dto.response.BlogPostListResponse;
 import com.apple.appleplayground.domain.blog.dto.response.BlogPostResponse;
+import com.apple.appleplayground.domain.blog.dto.response.PostSuggestResponse;
 import com.apple.appleplayground.domain.blog.service.BlogPostService;
+import com.apple.appleplayground.domain.blog.service.PostSuggestService;
+import com.apple.appleplayground.global.json.RenderedJson;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,10 +21,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 블로그 포스트 관련 API 컨트롤러
@@ -29,7 +40,13 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Blog API", description = "블로그 포스트 관련 API")
 public class BlogController {
     
+    // 상세: 매 요청마다 재검증 (조회수 집계를 위해 요청은 항상 서버에 도달)
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    // 목록: 카운트 반영 주기 동안은 재검증 없이 재사용
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(5)).cachePrivate();
+    
     private final BlogPostService blogPostService;
+    private final PostSuggestService postSuggestService;
     
     @Operation(summary = "블로그 포스트 생성", description = "새로운 블로그 포스트를 생성합니다.")
     @ApiResponses({
@@ -48,48 +65,102 @@ public class BlogController {
     
     @Operation(summary = "블로그 포스트 상세 조회", description = "지정된 ID의 블로그 포스트를 조회합니다. 조회수가 증가합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "포스트 조회 성공"),
+        @ApiResponse(responseCode = "200", description = "포스트 조회 성공",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogPostResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 포스트")
     })
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<BlogPostResponse> getPost(
-            @Parameter(description = "포스트 ID") @PathVariable Long postId) {
+    public ResponseEntity<RenderedJson> getPost(
+            @Parameter(description = "포스트 ID") @PathVariable Long postId,
+            @Parameter(description = "렌더링된 본문 HTML 포함 여부") @RequestParam(defaultValue = "false") boolean includeHtml,
+            WebRequest webRequest) {
         
-        BlogPostResponse response = blogPostService.getPost(postId);
-        return ResponseEntity.ok(response);
+        // 본문과 카운터가 바뀌지 않았으면 조회수만 집계하고 304 응답
+        BlogPostResponse snapshot = blogPostService.getPostSnapshot(postId);
+        String etag = blogPostService.getPostETag(snapshot, includeHtml);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            blogPostService.recordView(postId);
+            return null;
+        }
+        
+        // 캐시된 본문 JSON 바이트에 조회수/좋아요 수만 끼워 그대로 응답
+        RenderedJson response = blogPostService.getPostJson(snapshot, includeHtml);
+        return ResponseEntity.ok().cacheControl(DETAIL_CACHE_CONTROL).body(response);
     }
     
-    @Operation(summary = "전체 블로그 포스트 목록 조회", description = "모든 사용자의 블로그 포스트를 최신순으로 조회합니다.")
+    @Operation(summary = "전체 블로그 포스트 목록 조회", description = "모든 사용자의 블로그 포스트를 최신순으로 조회합니다. 전체 개수는 주기적으로 갱신되는 근사값이며 withTotal=false면 생략합니다. cursor 파라미터를 지정하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "포스트 목록 조회 성공")
+        @ApiResponse(responseCode = "200", description = "포스트 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서")
     })
     @GetMapping("/posts")
     public ResponseEntity<BlogPostListResponse> getAllPosts(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "커서 (createdAt,id)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 개수 포함 여부 (false면 다음 페이지 여부만 반환)") @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
+        
+        String etag = blogPostService.getPostsETag();
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        if (cursor != null) {
+            return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(blogPostService.getAllPosts(cursor, size));
+        }
         
         Pageable pageable = PageRequest.of(page, size);
-        BlogPostListResponse response = blogPostService.getAllPosts(pageable);
+        BlogPostListResponse response = blogPostService.getAllPosts(pageable, withTotal);
+        return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(response);
+    }
+    
+    @Operation(summary = "블로그 포스트 일괄 조회", description = "ID 목록(최대 100개)으로 여러 포스트를 한 번에 조회합니다. 요청한 순서대로 반환하며 존재하지 않는 ID는 missingIds로 알려줍니다. 조회수는 증가하지 않습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "포스트 일괄 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "ID 목록이 비어 있거나 최대 개수 초과")
+    })
+    @GetMapping(value = "/posts", params = "ids")
+    public ResponseEntity<BlogPostBatchResponse> getPostsByIds(
+            @Parameter(description = "포스트 ID 목록 (쉼표로 구분)", example = "3,1,2") @RequestParam List<Long> ids) {
+        
+        BlogPostBatchResponse response = blogPostService.getPostsByIds(ids);
         return ResponseEntity.ok(response);
     }
     
-    @Operation(summary = "특정 사용자의 블로그 포스트 목록 조회", description = "지정된 사용자의 블로그 포스트를 최신순으로 조회합니다.")
+    @Operation(summary = "특정 사용자의 블로그 포스트 목록 조회", description = "지정된 사용자의 블로그 포스트를 최신순으로 조회합니다. 전체 개수는 주기적으로 갱신되는 근사값이며 withTotal=false면 생략합니다. cursor 파라미터를 지정하면(첫 페이지는 빈 값) 커서 기반으로 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "포스트 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 사용자")
     })
     @GetMapping("/posts/user/{userId}")
     public ResponseEntity<BlogPostListResponse> getUserPosts(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "커서 (createdAt,id)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 개수 포함 여부 (false면 다음 페이지 여부만 반환)") @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
+        
+        String etag = blogPostService.getUserPostsETag(userId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        if (cursor != null) {
+            return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(blogPostService.getUserPosts(userId, cursor, size));
+        }
         
         Pageable pageable = PageRequest.of(page, size);
-        BlogPostListResponse response = blogPostService.getUserPosts(userId, pageable);
-        return ResponseEntity.ok(response);
+        BlogPostListResponse response = blogPostService.getUserPosts(userId, pageable, withTotal);
+        return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(response);
     }
     
-    @Operation(summary = "블로그 포스트 검색", description = "제목 또는 내용에서 키워드를 검색합니다.")
+    @Operation(summary = "블로그 포스트 검색", description = "제목 또는 내용에서 키워드를 검색합니다. 관련도순으로 정렬되며 본문 하이라이트를 포함합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "검색 성공")
     })
@@ -104,6 +175,49 @@ public class BlogController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "블로그 포스트 자동완성", description = "입력한 접두사로 시작하는 포스트 제목(단어 단위)과 작성자 사용자명을 메모리 색인에서 조회합니다. 키 입력마다 호출하는 용도입니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/posts/suggest")
+    public ResponseEntity<PostSuggestResponse> suggestPosts(
+            @Parameter(description = "접두사") @RequestParam String prefix,
+            @Parameter(description = "종류별 후보 수 (최대 blog.suggest.top-k)") @RequestParam(defaultValue = "10") int size) {
+        
+        PostSuggestResponse response = PostSuggestResponse.of(prefix, postSuggestService.suggest(prefix, size));
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "홈 피드 조회", description = "팔로우 중인 사용자들의 블로그 포스트를 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "피드 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<BlogPostListResponse> getFeed(
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "커서 (마지막 포스트 ID)") @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        
+        BlogPostListResponse response = blogPostService.getFeed(currentUser.getId(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    @Operation(summary = "인기 블로그 포스트 조회", description = "최근 조회/좋아요가 많은 포스트를 인기순으로 조회합니다. 오래된 반응일수록 점수가 감소합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "인기 포스트 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @GetMapping("/posts/trending")
+    public ResponseEntity<BlogPostListResponse> getTrendingPosts(
+            @Parameter(description = "조회할 포스트 수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        
+        BlogPostListResponse response = blogPostService.getTrendingPosts(size);
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "블로그 포스트 수정", description = "자신이 작성한 블로그 포스트를 수정합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "포스트 수정 성공"),
@@ -138,29 +252,33 @@ public class BlogController {
         return ResponseEntity.noContent().build();
     }
     
-    @Operation(summary = "블로그 포스트 좋아요 증가", description = "지정된 포스트의 좋아요를 1 증가시킵니다.")
+    @Operation(summary = "블로그 포스트 좋아요", description = "지정된 포스트에 좋아요를 누릅니다. 사용자당 한 번만 반영됩니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "좋아요 증가 성공"),
+        @ApiResponse(responseCode = "200", description = "좋아요 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 포스트")
     })
     @PostMapping("/posts/{postId}/like")
     public ResponseEntity<BlogPostResponse> incrementLike(
-            @Parameter(description = "포스트 ID") @PathVariable Long postId) {
+            @Parameter(description = "포스트 ID") @PathVariable Long postId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
         
-        BlogPostResponse response = blogPostService.incrementLike(postId);
+        BlogPostResponse response = blogPostService.incrementLike(postId, currentUser.getId());
         return ResponseEntity.ok(response);
     }
     
-    @Operation(summary = "블로그 포스트 좋아요 감소", description = "지정된 포스트의 좋아요를 1 감소시킵니다.")
+    @Operation(summary = "블로그 포스트 좋아요 취소", description = "지정된 포스트에 누른 좋아요를 취소합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "좋아요 감소 성공"),
+        @ApiResponse(responseCode = "200", description = "좋아요 취소 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 포스트")
     })
     @PostMapping("/posts/{postId}/unlike")
     public ResponseEntity<BlogPostResponse> decrementLike(
-            @Parameter(description = "포스트 ID") @PathVariable Long postId) {
+            @Parameter(description = "포스트 ID") @PathVariable Long postId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
         
-        BlogPostResponse response = blogPostService.decrementLike(postId);
+        BlogPostResponse response = blogPostService.decrementLike(postId, currentUser.getId());
         return ResponseEntity.ok(response);
     }
 }
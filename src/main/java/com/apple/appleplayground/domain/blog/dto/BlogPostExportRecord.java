@@ -0,0 +1,34 @@
+package com.apple.appleplayground.domain.blog.dto;
+
+import com.apple.appleplayground.domain.blog.entity.BlogPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스트 내보내기/가져오기 한 줄(NDJSON) 형식
+ */
+public record BlogPostExportRecord(
+        Long id,
+        String title,
+        String content,
+        Long authorId,
+        Integer viewCount,
+        Integer likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+    
+    /**
+     * 엔티티로부터 생성 (작성자는 ID만 사용하므로 지연 로딩이 일어나지 않음)
+     */
+    public static BlogPostExportRecord from(BlogPost blogPost) {
+        return new BlogPostExportRecord(
+                blogPost.getId(),
+                blogPost.getTitle(),
+                blogPost.getContent(),
+                blogPost.getAuthor().getId(),
+                blogPost.getViewCount(),
+                blogPost.getLikeCount(),
+                blogPost.getCreatedAt(),
+                blogPost.getUpdatedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.apple.appleplayground.domain.blog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 블로그 포스트 목록용 프로젝션
+ * 본문(LONGTEXT) 대신 미리 계산된 요약(excerpt)만 조회한다.
+ */
+public record BlogPostSummary(
+        Long id,
+        String title,
+        String excerpt,
+        Long authorId,
+        Integer viewCount,
+        Integer likeCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
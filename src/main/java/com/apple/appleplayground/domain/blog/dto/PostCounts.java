@@ -0,0 +1,7 @@
+package com.apple.appleplayground.domain.blog.dto;
+
+/**
+ * 포스트 조회수/좋아요 수
+ */
+public record PostCounts(Integer viewCount, Integer likeCount) {
+}
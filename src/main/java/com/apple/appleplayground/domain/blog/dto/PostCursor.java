@@ -0,0 +1,47 @@
+package com.apple.appleplayground.domain.blog.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 포스트 목록 커서 (작성일시, ID)
+ * 최신순 목록에서 마지막으로 조회한 포스트의 위치를 나타내며 "createdAt,id" 형식으로 주고받는다.
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+    
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     */
+    public static PostCursor parse(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        
+        int separator = token.lastIndexOf(',');
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + token);
+        }
+        
+        try {
+            return new PostCursor(
+                    LocalDateTime.parse(token.substring(0, separator).trim()),
+                    Long.valueOf(token.substring(separator + 1).trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + token);
+        }
+    }
+    
+    /**
+     * 포스트 위치로 커서 생성
+     */
+    public static PostCursor of(BlogPostSummary summary) {
+        return new PostCursor(summary.createdAt(), summary.id());
+    }
+    
+    /**
+     * 커서 문자열로 변환
+     */
+    public String encode() {
+        return createdAt + "," + id;
+    }
+}
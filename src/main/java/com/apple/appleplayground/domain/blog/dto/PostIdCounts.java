@@ -0,0 +1,7 @@
+package com.apple.appleplayground.domain.blog.dto;
+
+/**
+ * 포스트 ID별 조회수/좋아요 수 (여러 포스트를 한 번에 조회할 때 사용)
+ */
+public record PostIdCounts(Long postId, Integer viewCount, Integer likeCount) {
+}
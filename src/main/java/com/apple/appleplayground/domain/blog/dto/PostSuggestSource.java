@@ -0,0 +1,15 @@
+package com.apple.appleplayground.domain.blog.dto;
+
+/**
+ * 자동완성 색인용 프로젝션 (포스트 제목과 작성자)
+ */
+public record PostSuggestSource(
+        Long postId,
+        String title,
+        Integer viewCount,
+        Integer likeCount,
+        Long authorId,
+        String authorUsername,
+        Integer authorPostsCount
+) {
+}
@@ -0,0 +1,44 @@
+package com.apple.appleplayground.domain.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 포스트 일괄 가져오기 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "포스트 일괄 가져오기 응답")
+public class BlogImportResponse {
+    
+    @Schema(description = "가져온 포스트 수", example = "1000000")
+    private long importedCount;
+    
+    @Schema(description = "건너뛴 줄 수 (형식 오류, 존재하지 않는 작성자 등)", example = "12")
+    private long skippedCount;
+    
+    @Schema(description = "소요 시간 (ms)", example = "180000")
+    private long elapsedMillis;
+    
+    @Schema(description = "초당 처리한 포스트 수", example = "5555")
+    private long rowsPerSecond;
+    
+    @Schema(description = "건너뛴 줄의 사유 (앞부분 일부)", example = "[\"12번째 줄: 존재하지 않는 작성자 99\"]")
+    private List<String> errors;
+    
+    /**
+     * 가져오기 응답 생성
+     */
+    public static BlogImportResponse of(long importedCount, long skippedCount, long elapsedMillis, List<String> errors) {
+        return BlogImportResponse.builder()
+                .importedCount(importedCount)
+                .skippedCount(skippedCount)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(elapsedMillis > 0 ? importedCount * 1000 / elapsedMillis : importedCount)
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.apple.appleplayground.domain.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 블로그 포스트 일괄 조회 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "블로그 포스트 일괄 조회 응답")
+public class BlogPostBatchResponse {
+    
+    @Schema(description = "블로그 포스트 목록 (요청한 ID 순서, 중복 ID는 한 번만)")
+    private List<BlogPostResponse> posts;
+    
+    @Schema(description = "존재하지 않는 포스트 ID (요청 순서)", example = "[42]")
+    private List<Long> missingIds;
+    
+    /**
+     * 블로그 포스트 일괄 조회 응답 생성
+     */
+    public static BlogPostBatchResponse of(List<BlogPostResponse> posts, List<Long> missingIds) {
+        return BlogPostBatchResponse.builder()
+                .posts(posts)
+                .missingIds(missingIds)
+                .build();
+    }
+}
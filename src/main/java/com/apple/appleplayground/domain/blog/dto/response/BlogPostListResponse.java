@@ -1,9 +1,9 @@
 package com.apple.appleplayground.domain.blog.dto.response;
 
+import com.apple.appleplayground.global.dto.ListMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.domain.Page;
 
 import java.util.List;
 
@@ -18,14 +18,17 @@ public class BlogPostListResponse {
     @Schema(description = "블로그 포스트 목록")
     private List<BlogPostResponse> posts;
     
+    @Schema(description = "조회 방식 (PAGE: 정확한 전체 개수, APPROXIMATE_PAGE: 근사 전체 개수, SLICE: 전체 개수 없음, CURSOR: 커서 기반)", example = "APPROXIMATE_PAGE")
+    private ListMode mode;
+    
     @Schema(description = "현재 페이지", example = "0")
     private int currentPage;
     
-    @Schema(description = "전체 페이지 수", example = "5")
-    private int totalPages;
+    @Schema(description = "전체 페이지 수 (SLICE, CURSOR 조회 시 생략)", example = "5")
+    private Integer totalPages;
     
-    @Schema(description = "전체 요소 수", example = "50")
-    private long totalElements;
+    @Schema(description = "전체 요소 수 (SLICE, CURSOR 조회 시 생략)", example = "50")
+    private Long totalElements;
     
     @Schema(description = "페이지 크기", example = "10")
     private int size;
@@ -33,21 +36,57 @@ public class BlogPostListResponse {
     @Schema(description = "마지막 페이지 여부", example = "false")
     private boolean isLast;
     
+    @Schema(description = "다음 페이지 커서 (커서 기반 조회 시, 마지막 페이지면 null)", example = "2024-01-01T10:30:00,123")
+    private String nextCursor;
+    
+    /**
+     * size + 1개 조회 결과로 BlogPostListResponse 생성 (COUNT 없이 다음 페이지 여부 판단)
+     *
+     * @param approximateTotal 근사 전체 개수 (null이면 전체 개수 생략)
+     */
+    public static BlogPostListResponse ofSlice(List<BlogPostResponse> posts, int page, int size, boolean hasNext, Long approximateTotal) {
+        BlogPostListResponseBuilder builder = BlogPostListResponse.builder()
+                .posts(posts)
+                .mode(approximateTotal != null ? ListMode.APPROXIMATE_PAGE : ListMode.SLICE)
+                .currentPage(page)
+                .size(size)
+                .isLast(!hasNext);
+        if (approximateTotal != null) {
+            // 근사값이 실제 조회 결과와 모순되지 않도록 보정
+            long total = Math.max(approximateTotal, (long) page * size + posts.size() + (hasNext ? 1 : 0));
+            builder.totalElements(total)
+                    .totalPages(size == 0 ? 1 : (int) Math.ceil((double) total / size));
+        }
+        return builder.build();
+    }
+    
     /**
-     * Page<BlogPost>로부터 BlogPostListResponse 생성
+     * 이미 변환된 포스트 목록과 페이지 정보로 BlogPostListResponse 생성
      */
-    public static BlogPostListResponse from(Page<com.apple.appleplayground.domain.blog.entity.BlogPost> postPage) {
-        List<BlogPostResponse> posts = postPage.getContent().stream()
-                .map(BlogPostResponse::fromSummary)
-                .toList();
+    public static BlogPostListResponse of(List<BlogPostResponse> posts, int page, int size, long totalElements) {
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
         
         return BlogPostListResponse.builder()
                 .posts(posts)
-                .currentPage(postPage.getNumber())
-                .totalPages(postPage.getTotalPages())
-                .totalElements(postPage.getTotalElements())
-                .size(postPage.getSize())
-                .isLast(postPage.isLast())
+                .mode(ListMode.PAGE)
+                .currentPage(page)
+                .totalPages(totalPages)
+                .totalElements(totalElements)
+                .size(size)
+                .isLast(page + 1 >= totalPages)
+                .build();
+    }
+    
+    /**
+     * 커서 기반 조회 결과로 BlogPostListResponse 생성 (전체 개수 미포함)
+     */
+    public static BlogPostListResponse ofCursor(List<BlogPostResponse> posts, int size, String nextCursor) {
+        return BlogPostListResponse.builder()
+                .posts(posts)
+                .mode(ListMode.CURSOR)
+                .size(size)
+                .isLast(nextCursor == null)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -1,10 +1,13 @@
 package com.apple.appleplayground.domain.blog.dto.response;
 
+import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.domain.blog.dto.BlogPostSummary;
 import com.apple.appleplayground.domain.blog.entity.BlogPost;
 import com.apple.appleplayground.domain.follow.dto.response.UserInfoResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
@@ -12,7 +15,8 @@ import java.time.LocalDateTime;
  * 블로그 포스트 응답 DTO
  */
 @Getter
-@Builder
+@Jacksonized
+@Builder(toBuilder = true)
 @Schema(description = "블로그 포스트 응답")
 public class BlogPostResponse {
     
@@ -25,6 +29,12 @@ public class BlogPostResponse {
     @Schema(description = "포스트 내용", example = "Spring Boot로 REST API를 만드는 방법...")
     private String content;
     
+    @Schema(description = "본문 해시 (본문이 바뀔 때만 변경)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String contentHash;
+    
+    @Schema(description = "렌더링된 본문 HTML (상세 조회 시 includeHtml=true인 경우에만 포함)", example = "<p>Spring Boot로 REST API를 만드는 방법...</p>")
+    private String renderedHtml;
+    
     @Schema(description = "작성자 정보")
     private UserInfoResponse author;
     
@@ -34,6 +44,12 @@ public class BlogPostResponse {
     @Schema(description = "좋아요 수", example = "25")
     private Integer likeCount;
     
+    @Schema(description = "현재 사용자의 좋아요 여부 (좋아요 API 응답에만 포함)", example = "true")
+    private Boolean liked;
+    
+    @Schema(description = "검색어 하이라이트 (검색 API 응답에만 포함)", example = "Spring Boot로 <em>REST</em> API를 만드는 방법...")
+    private String highlight;
+    
     @Schema(description = "작성일시", example = "2024-01-01T10:30:00")
     private LocalDateTime createdAt;
     
@@ -48,6 +64,7 @@ public class BlogPostResponse {
                 .id(blogPost.getId())
                 .title(blogPost.getTitle())
                 .content(blogPost.getContent())
+                .contentHash(blogPost.resolveContentHash())
                 .author(UserInfoResponse.from(blogPost.getAuthor()))
                 .viewCount(blogPost.getViewCount())
                 .likeCount(blogPost.getLikeCount())
@@ -57,20 +74,18 @@ public class BlogPostResponse {
     }
     
     /**
-     * BlogPost 엔티티로부터 BlogPostResponse 생성 (내용 미포함 - 목록용)
+     * 목록용 프로젝션으로부터 BlogPostResponse 생성 (내용 대신 요약 포함 - 목록용)
      */
-    public static BlogPostResponse fromSummary(BlogPost blogPost) {
+    public static BlogPostResponse fromSummary(BlogPostSummary summary, User author) {
         return BlogPostResponse.builder()
-                .id(blogPost.getId())
-                .title(blogPost.getTitle())
-                .content(blogPost.getContent().length() > 200 ? 
-                        blogPost.getContent().substring(0, 200) + "..." : 
-                        blogPost.getContent())
-                .author(UserInfoResponse.from(blogPost.getAuthor()))
-                .viewCount(blogPost.getViewCount())
-                .likeCount(blogPost.getLikeCount())
-                .createdAt(blogPost.getCreatedAt())
-                .updatedAt(blogPost.getUpdatedAt())
+                .id(summary.id())
+                .title(summary.title())
+                .content(summary.excerpt())
+                .author(author != null ? UserInfoResponse.from(author) : null)
+                .viewCount(summary.viewCount())
+                .likeCount(summary.likeCount())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
                 .build();
     }
 }
@@ -0,0 +1,59 @@
+package com.apple.appleplayground.domain.blog.dto.response;
+
+import com.apple.appleplayground.domain.blog.service.PostSuggestService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 자동완성 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "자동완성 응답")
+public class PostSuggestResponse {
+    
+    @Schema(description = "입력한 접두사", example = "spring")
+    private String prefix;
+    
+    @Schema(description = "제목이 접두사로 시작하는(또는 접두사로 시작하는 단어를 포함하는) 포스트 (인기순)")
+    private List<Item> posts;
+    
+    @Schema(description = "사용자명이 접두사로 시작하는 작성자 (포스트 수순)")
+    private List<Item> authors;
+    
+    /**
+     * 자동완성 결과로부터 응답 생성
+     */
+    public static PostSuggestResponse of(String prefix, PostSuggestService.SuggestResult result) {
+        return PostSuggestResponse.builder()
+                .prefix(prefix)
+                .posts(result.posts().stream().map(Item::from).toList())
+                .authors(result.authors().stream().map(Item::from).toList())
+                .build();
+    }
+    
+    /**
+     * 자동완성 항목
+     */
+    @Getter
+    @Builder
+    @Schema(description = "자동완성 항목")
+    public static class Item {
+        
+        @Schema(description = "포스트 ID 또는 사용자 ID", example = "1")
+        private Long id;
+        
+        @Schema(description = "포스트 제목 또는 사용자명", example = "Spring Boot 시작하기")
+        private String text;
+        
+        static Item from(PostSuggestService.Suggestion suggestion) {
+            return Item.builder()
+                    .id(suggestion.id())
+                    .text(suggestion.text())
+                    .build();
+        }
+    }
+}
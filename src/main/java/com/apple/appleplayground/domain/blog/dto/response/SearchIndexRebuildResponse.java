@@ -0,0 +1,30 @@
+package com.apple.appleplayground.domain.blog.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 색인 재생성 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "검색 색인 재생성 응답")
+public class SearchIndexRebuildResponse {
+    
+    @Schema(description = "색인된 포스트 수", example = "1500")
+    private long indexedCount;
+    
+    @Schema(description = "소요 시간 (ms)", example = "3200")
+    private long elapsedMillis;
+    
+    /**
+     * 검색 색인 재생성 응답 생성
+     */
+    public static SearchIndexRebuildResponse of(long indexedCount, long elapsedMillis) {
+        return SearchIndexRebuildResponse.builder()
+                .indexedCount(indexedCount)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.apple.appleplayground.domain.blog.dto.response;
+
+import com.apple.appleplayground.domain.blog.service.ViewCountService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 조회 이벤트 버퍼 상태 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "조회 이벤트 버퍼 상태 응답")
+public class ViewEventStatsResponse {
+    
+    @Schema(description = "버퍼 크기", example = "65536")
+    private int capacity;
+    
+    @Schema(description = "현재 적재 수", example = "120")
+    private int size;
+    
+    @Schema(description = "버퍼 사용률 (0 ~ 1)", example = "0.0018")
+    private double utilization;
+    
+    @Schema(description = "버퍼에 넣은 조회 이벤트 수", example = "1520000")
+    private long published;
+    
+    @Schema(description = "버퍼가 가득 차 요청 스레드에서 직접 반영한 조회 이벤트 수 (배압 발생 횟수)", example = "0")
+    private long overflowed;
+    
+    @Schema(description = "소비자가 합쳐서 Redis에 반영한 조회 이벤트 수", example = "1519880")
+    private long publishedToRedis;
+    
+    @Schema(description = "소비자가 Redis에 반영한 횟수", example = "4310")
+    private long publishCount;
+    
+    @Schema(description = "Redis 장애로 DB에 직접 반영한 포스트 수", example = "0")
+    private long fallbackToDatabase;
+    
+    /**
+     * 버퍼 상태로부터 응답 생성
+     */
+    public static ViewEventStatsResponse from(ViewCountService.BufferStats stats) {
+        return ViewEventStatsResponse.builder()
+                .capacity(stats.capacity())
+                .size(stats.size())
+                .utilization((double) stats.size() / stats.capacity())
+                .published(stats.published())
+                .overflowed(stats.overflowed())
+                .publishedToRedis(stats.publishedToRedis())
+                .publishCount(stats.publishCount())
+                .fallbackToDatabase(stats.fallbackToDatabase())
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.apple.appleplayground.domain.blog.entity;
 
 import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.global.converter.CompressedTextConverter;
+import com.apple.appleplayground.global.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,7 +12,11 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 /**
  * 블로그 포스트 엔티티
@@ -31,16 +37,37 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class BlogPost {
     
+    /**
+     * 목록 응답에 사용하는 요약 길이
+     */
+    public static final int EXCERPT_LENGTH = 200;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
     @Column(nullable = false, length = 500)
     private String title;
     
+    /**
+     * 본문 (압축 형식으로 저장)
+     */
+    @Convert(converter = CompressedTextConverter.class)
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String content;
     
+    /**
+     * 목록 조회 시 본문 대신 사용하는 요약 (생성/수정 시 갱신)
+     */
+    @Column(length = 300)
+    private String excerpt;
+    
+    /**
+     * 본문 SHA-256 해시 (렌더링 결과 캐시 키, 생성/수정 시 갱신)
+     */
+    @Column(length = 64)
+    private String contentHash;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -61,6 +88,47 @@ public class BlogPost {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * 블로그 포스트 생성
+     */
+    public static BlogPost create(String title, String content, User author) {
+        return BlogPost.builder()
+                .title(title)
+                .content(content)
+                .excerpt(excerptOf(content))
+                .contentHash(hashOf(content))
+                .author(author)
+                .build();
+    }
+    
+    /**
+     * 본문으로부터 목록용 요약 생성
+     */
+    public static String excerptOf(String content) {
+        return content.length() > EXCERPT_LENGTH
+                ? content.substring(0, EXCERPT_LENGTH) + "..."
+                : content;
+    }
+    
+    /**
+     * 본문 해시 계산
+     */
+    public static String hashOf(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+    
+    /**
+     * 현재 본문 해시 (해시 도입 이전 포스트는 본문으로 계산)
+     */
+    public String resolveContentHash() {
+        return contentHash != null ? contentHash : hashOf(content);
+    }
+    
     /**
      * 조회수 증가
      */
@@ -90,12 +158,14 @@ public class BlogPost {
     public void updatePost(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
+        this.contentHash = hashOf(content);
     }
     
     /**
-     * 작성자 확인
+     * 작성자 확인 (작성자 ID만 비교하므로 지연 로딩된 작성자를 초기화하지 않음)
      */
-    public boolean isAuthor(User user) {
-        return this.author.getId().equals(user.getId());
+    public boolean isAuthor(Long userId) {
+        return this.author.getId().equals(userId);
     }
 }
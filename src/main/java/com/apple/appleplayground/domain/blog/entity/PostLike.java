@@ -0,0 +1,48 @@
+package com.apple.appleplayground.domain.blog.entity;
+
+import com.apple.appleplayground.domain.auth.entity.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포스트 좋아요 엔티티
+ * 한 사용자는 하나의 포스트에 한 번만 좋아요를 누를 수 있다.
+ */
+@Entity
+@Table(
+    name = "post_likes",
+    indexes = {
+        @Index(name = "idx_post_likes_user_id", columnList = "user_id")
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class PostLike {
+    
+    @EmbeddedId
+    private PostLikeId id;
+    
+    @MapsId("postId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private BlogPost post;
+    
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.apple.appleplayground.domain.blog.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 포스트 좋아요 복합 키 (포스트 ID + 사용자 ID)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PostLikeId implements Serializable {
+    
+    @Column(name = "post_id")
+    private Long postId;
+    
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -0,0 +1,58 @@
+package com.apple.appleplayground.domain.blog.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 블로그 포스트 일괄 처리용 Repository
+ */
+public interface BlogPostBatchRepository {
+    
+    /**
+     * ID 순으로 저장된 본문 원본(변환 전 컬럼 값) 조회
+     */
+    List<StoredContent> findStoredContentAfter(long afterId, int limit);
+    
+    /**
+     * 본문 컬럼 값 일괄 갱신 (요약이 비어 있으면 함께 채움)
+     * 조회 이후 수정된 포스트(수정일시가 달라진 행)는 덮어쓰지 않는다.
+     *
+     * @return 수정되어 건너뛴 포스트 ID
+     */
+    List<Long> batchUpdateStoredContent(Collection<StoredContent> contents);
+    
+    /**
+     * 포스트 일괄 삽입 (JDBC 배치)
+     *
+     * @return 삽입된 행 수
+     */
+    int batchInsert(Collection<NewPost> posts);
+    
+    /**
+     * 포스트별 조회수 변화량 일괄 반영 (UPDATE ... CASE 한 문장으로 여러 포스트 갱신)
+     */
+    void addViewCounts(Map<Long, Long> deltas);
+    
+    /**
+     * 포스트별 좋아요 수 변화량 일괄 반영 (UPDATE ... CASE 한 문장으로 여러 포스트 갱신)
+     */
+    void addLikeCounts(Map<Long, Long> deltas);
+    
+    /**
+     * 저장된 본문 컬럼 값
+     *
+     * @param excerpt 요약 (갱신 시 기존 요약이 없을 때만 사용)
+     * @param updatedAt 조회 시점의 수정일시 (갱신 시 동시 수정 확인용)
+     */
+    record StoredContent(Long id, String content, String excerpt, LocalDateTime updatedAt) {
+    }
+    
+    /**
+     * 일괄 삽입할 포스트 (본문은 저장 형식으로 변환된 값)
+     */
+    record NewPost(Long id, String title, String content, String excerpt, String contentHash, Long authorId,
+                   int viewCount, int likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.apple.appleplayground.domain.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC를 이용한 블로그 포스트 일괄 처리
+ */
+@RequiredArgsConstructor
+public class BlogPostBatchRepositoryImpl implements BlogPostBatchRepository {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    // UPDATE ... CASE 한 문장에 담는 최대 포스트 수
+    private static final int COUNTER_CHUNK_SIZE = 500;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<StoredContent> findStoredContentAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, content, updated_at FROM blog_posts WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new StoredContent(rs.getLong("id"), rs.getString("content"), null,
+                        rs.getTimestamp("updated_at").toLocalDateTime()),
+                afterId, limit);
+    }
+    
+    @Override
+    public List<Long> batchUpdateStoredContent(Collection<StoredContent> contents) {
+        List<StoredContent> ordered = List.copyOf(contents);
+        int[][] results = jdbcTemplate.batchUpdate(
+                "UPDATE blog_posts SET content = ?, excerpt = COALESCE(excerpt, ?) WHERE id = ? AND updated_at = ?",
+                ordered, BATCH_SIZE,
+                (ps, content) -> {
+                    ps.setString(1, content.content());
+                    ps.setString(2, content.excerpt());
+                    ps.setLong(3, content.id());
+                    ps.setTimestamp(4, Timestamp.valueOf(content.updatedAt()));
+                });
+        
+        // 갱신 건수가 0인 행은 조회 이후 수정됨 (SUCCESS_NO_INFO는 갱신된 것으로 봄)
+        List<Long> skipped = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : results) {
+            for (int updated : batch) {
+                if (updated == 0) {
+                    skipped.add(ordered.get(index).id());
+                }
+                index++;
+            }
+        }
+        return skipped;
+    }
+    
+    @Override
+    public int batchInsert(Collection<NewPost> posts) {
+        // rewriteBatchedStatements=true 설정 시 드라이버가 다중 행 INSERT 하나로 합쳐 전송
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO blog_posts (id, title, content, excerpt, content_hash, author_id, view_count, like_count, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                posts, posts.size(),
+                (ps, post) -> {
+                    ps.setLong(1, post.id());
+                    ps.setString(2, post.title());
+                    ps.setString(3, post.content());
+                    ps.setString(4, post.excerpt());
+                    ps.setString(5, post.contentHash());
+                    ps.setLong(6, post.authorId());
+                    ps.setInt(7, post.viewCount());
+                    ps.setInt(8, post.likeCount());
+                    ps.setTimestamp(9, Timestamp.valueOf(post.createdAt()));
+                    ps.setTimestamp(10, Timestamp.valueOf(post.updatedAt()));
+                });
+        // 다중 행으로 합쳐진 경우 행별 결과 대신 SUCCESS_NO_INFO(-2)가 반환되므로 요청 건수로 계산
+        return posts.size();
+    }
+    
+    @Override
+    public void addViewCounts(Map<Long, Long> deltas) {
+        addCounts("view_count", deltas);
+    }
+    
+    @Override
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        addCounts("like_count", deltas);
+    }
+    
+    /**
+     * UPDATE blog_posts SET {column} = GREATEST({column} + CASE id WHEN ? THEN ? ... END, 0) WHERE id IN (...)
+     * 0 미만으로 내려가지 않도록 GREATEST로 보정한다.
+     */
+    private void addCounts(String column, Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .toList();
+        
+        for (int from = 0; from < entries.size(); from += COUNTER_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + COUNTER_CHUNK_SIZE, entries.size()));
+            
+            StringBuilder sql = new StringBuilder("UPDATE blog_posts SET ")
+                    .append(column).append(" = GREATEST(").append(column).append(" + CASE id");
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<Long, Long> entry : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            }
+            sql.append(" ELSE 0 END, 0) WHERE id IN (")
+                    .append(String.join(", ", Collections.nCopies(chunk.size(), "?")))
+                    .append(')');
+            chunk.forEach(entry -> args.add(entry.getKey()));
+            
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
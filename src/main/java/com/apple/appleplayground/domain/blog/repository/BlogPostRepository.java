@@ -1,70 +1,171 @@
 package com.apple.appleplayground.domain.blog.repository;
 
 import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.domain.blog.dto.BlogPostSummary;
+import com.apple.appleplayground.domain.blog.dto.PostCounts;
+import com.apple.appleplayground.domain.blog.dto.PostIdCounts;
+import com.apple.appleplayground.domain.blog.dto.PostSuggestSource;
 import com.apple.appleplayground.domain.blog.entity.BlogPost;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * 블로그 포스트 Repository
  */
 @Repository
-public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
+public interface BlogPostRepository extends JpaRepository<BlogPost, Long>, BlogPostBatchRepository {
+    
+    /**
+     * 작성자와 함께 블로그 포스트 조회
+     */
+    @Query("SELECT bp FROM BlogPost bp JOIN FETCH bp.author WHERE bp.id = :id")
+    Optional<BlogPost> findWithAuthorById(@Param("id") Long id);
+    
+    /**
+     * 작성자와 함께 여러 블로그 포스트 조회 (IN 절 한 번)
+     */
+    @Query("SELECT bp FROM BlogPost bp JOIN FETCH bp.author WHERE bp.id IN :ids")
+    List<BlogPost> findAllWithAuthorByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 조회수/좋아요 수만 조회
+     */
+    @Query("SELECT new com.apple.appleplayground.domain.blog.dto.PostCounts(bp.viewCount, bp.likeCount) FROM BlogPost bp WHERE bp.id = :id")
+    Optional<PostCounts> findCountsById(@Param("id") Long id);
+    
+    /**
+     * 여러 포스트의 조회수/좋아요 수 조회 (IN 절 한 번)
+     */
+    @Query("SELECT new com.apple.appleplayground.domain.blog.dto.PostIdCounts(bp.id, bp.viewCount, bp.likeCount) FROM BlogPost bp WHERE bp.id IN :ids")
+    List<PostIdCounts> findCountsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 작성자가 일치할 때만 포스트 삭제 (삭제된 행 수 반환, 동시 삭제 시 한 요청만 1을 받음)
+     */
+    @Modifying
+    @Query("DELETE FROM BlogPost bp WHERE bp.id = :id AND bp.author.id = :authorId")
+    int deleteByIdAndAuthorId(@Param("id") Long id, @Param("authorId") Long authorId);
+    
+    /**
+     * 목록용 프로젝션 (본문 제외)
+     */
+    String SUMMARY = "SELECT new com.apple.appleplayground.domain.blog.dto.BlogPostSummary(" +
+            "bp.id, bp.title, bp.excerpt, bp.author.id, bp.viewCount, bp.likeCount, bp.createdAt, bp.updatedAt) ";
     
     /**
-     * 특정 사용자의 블로그 포스트 조회 (최신순)
+     * 전체 블로그 포스트 목록 조회 (최신순, 본문 제외)
      */
-    Page<BlogPost> findByAuthorOrderByCreatedAtDesc(User author, Pageable pageable);
+    @Query(SUMMARY + "FROM BlogPost bp ORDER BY bp.createdAt DESC")
+    Slice<BlogPostSummary> findSummaries(Pageable pageable);
     
     /**
-     * 전체 블로그 포스트 조회 (최신순)
+     * 특정 사용자의 블로그 포스트 목록 조회 (최신순, 본문 제외)
      */
-    Page<BlogPost> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Query(SUMMARY + "FROM BlogPost bp WHERE bp.author = :author ORDER BY bp.createdAt DESC")
+    Slice<BlogPostSummary> findSummariesByAuthor(@Param("author") User author, Pageable pageable);
+    
+    /**
+     * ID 목록으로 목록용 프로젝션 조회
+     */
+    @Query(SUMMARY + "FROM BlogPost bp WHERE bp.id IN :ids")
+    List<BlogPostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 여러 작성자의 beforeId 이전 포스트 ID 조회 (최신순, 타임라인용)
+     */
+    @Query("SELECT bp.id FROM BlogPost bp WHERE bp.author.id IN :authorIds AND bp.id < :beforeId ORDER BY bp.id DESC")
+    List<Long> findLatestIdsByAuthorIds(@Param("authorIds") Collection<Long> authorIds,
+                                        @Param("beforeId") Long beforeId,
+                                        Pageable pageable);
+    
+    /**
+     * 전체 블로그 포스트 첫 페이지 조회 (커서 기반, 최신순)
+     */
+    @Query(SUMMARY + "FROM BlogPost bp ORDER BY bp.createdAt DESC, bp.id DESC")
+    List<BlogPostSummary> findLatest(Pageable pageable);
+    
+    /**
+     * 전체 블로그 포스트 커서 이후 조회 (idx_created_at 탐색)
+     */
+    @Query(SUMMARY + "FROM BlogPost bp " +
+           "WHERE bp.createdAt <= :createdAt AND (bp.createdAt < :createdAt OR bp.id < :id) " +
+           "ORDER BY bp.createdAt DESC, bp.id DESC")
+    List<BlogPostSummary> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * 특정 사용자의 블로그 포스트 첫 페이지 조회 (커서 기반, 최신순)
+     */
+    @Query(SUMMARY + "FROM BlogPost bp WHERE bp.author = :author ORDER BY bp.createdAt DESC, bp.id DESC")
+    List<BlogPostSummary> findLatestByAuthor(@Param("author") User author, Pageable pageable);
+    
+    /**
+     * 특정 사용자의 블로그 포스트 커서 이후 조회 (idx_author_created 탐색)
+     */
+    @Query(SUMMARY + "FROM BlogPost bp " +
+           "WHERE bp.author = :author AND bp.createdAt <= :createdAt AND (bp.createdAt < :createdAt OR bp.id < :id) " +
+           "ORDER BY bp.createdAt DESC, bp.id DESC")
+    List<BlogPostSummary> findLatestByAuthorBefore(@Param("author") User author, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
     
     /**
      * 제목으로 검색
      */
-    Page<BlogPost> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String title, Pageable pageable);
+    Slice<BlogPost> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String title, Pageable pageable);
     
     /**
-     * 내용으로 검색
+     * 주어진 ID 중 존재하는 포스트 ID 조회
      */
-    Page<BlogPost> findByContentContainingIgnoreCaseOrderByCreatedAtDesc(String content, Pageable pageable);
+    @Query("SELECT bp.id FROM BlogPost bp WHERE bp.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
     
     /**
-     * 제목 또는 내용으로 검색
+     * ID 순 청크 조회 (전체 스캔용)
      */
-    @Query("SELECT bp FROM BlogPost bp WHERE " +
-           "LOWER(bp.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(bp.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY bp.createdAt DESC")
-    Page<BlogPost> findByTitleOrContentContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
+    List<BlogPost> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
     
     /**
-     * 조회수 증가 (원자적 연산)
+     * ID 순 자동완성 색인 원본 청크 조회 (본문 없이 제목과 작성자만)
      */
-    @Modifying
-    @Query("UPDATE BlogPost bp SET bp.viewCount = bp.viewCount + 1 WHERE bp.id = :id")
-    int incrementViewCount(@Param("id") Long id);
+    @Query("SELECT new com.apple.appleplayground.domain.blog.dto.PostSuggestSource(" +
+           "bp.id, bp.title, bp.viewCount, bp.likeCount, a.id, a.username, a.postsCount) " +
+           "FROM BlogPost bp JOIN bp.author a WHERE bp.id > :afterId ORDER BY bp.id")
+    List<PostSuggestSource> findSuggestSources(@Param("afterId") Long afterId, Pageable pageable);
     
     /**
-     * 좋아요 증가 (원자적 연산)
+     * 요약이 없는 기존 포스트의 요약 채우기 (청크 단위)
+     * 압축 형식으로 저장된 본문은 SQL로 자를 수 없으므로 제외 (압축 마이그레이션에서 함께 채움)
      */
     @Modifying
-    @Query("UPDATE BlogPost bp SET bp.likeCount = bp.likeCount + 1 WHERE bp.id = :id")
-    int incrementLikeCount(@Param("id") Long id);
+    @Query(value = "UPDATE blog_posts SET excerpt = " +
+                   "CASE WHEN CHAR_LENGTH(content) > 200 THEN CONCAT(LEFT(content, 200), '...') ELSE content END " +
+                   "WHERE excerpt IS NULL AND LEFT(content, 1) <> CHAR(1) LIMIT :limit",
+           nativeQuery = true)
+    int backfillExcerpts(@Param("limit") int limit);
     
     /**
-     * 좋아요 감소 (원자적 연산)
+     * ID 순 전체 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용)
+     * MySQL 드라이버가 결과를 한 번에 적재하지 않고 행 단위로 읽도록 fetch size를 Integer.MIN_VALUE로 지정
      */
-    @Modifying
-    @Query("UPDATE BlogPost bp SET bp.likeCount = bp.likeCount - 1 WHERE bp.id = :id AND bp.likeCount > 0")
-    int decrementLikeCount(@Param("id") Long id);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT bp FROM BlogPost bp WHERE bp.id > :afterId ORDER BY bp.id")
+    Stream<BlogPost> streamByIdGreaterThanOrderByIdAsc(@Param("afterId") Long afterId);
     
     /**
      * 특정 사용자의 포스트 개수
@@ -0,0 +1,21 @@
+package com.apple.appleplayground.domain.blog.repository;
+
+import com.apple.appleplayground.domain.blog.entity.PostLikeId;
+
+import java.util.Collection;
+
+/**
+ * 포스트 좋아요 일괄 반영용 Repository
+ */
+public interface PostLikeBatchRepository {
+    
+    /**
+     * 좋아요 일괄 추가 (이미 존재하는 좋아요는 무시)
+     */
+    void batchInsert(Collection<PostLikeId> ids);
+    
+    /**
+     * 좋아요 일괄 삭제
+     */
+    void batchDelete(Collection<PostLikeId> ids);
+}
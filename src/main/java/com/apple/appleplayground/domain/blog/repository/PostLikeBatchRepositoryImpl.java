@@ -0,0 +1,40 @@
+package com.apple.appleplayground.domain.blog.repository;
+
+import com.apple.appleplayground.domain.blog.entity.PostLikeId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+
+/**
+ * JDBC 배치를 이용한 포스트 좋아요 일괄 반영
+ */
+@RequiredArgsConstructor
+public class PostLikeBatchRepositoryImpl implements PostLikeBatchRepository {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void batchInsert(Collection<PostLikeId> ids) {
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, NOW(6))",
+                ids, BATCH_SIZE,
+                (ps, id) -> {
+                    ps.setLong(1, id.getPostId());
+                    ps.setLong(2, id.getUserId());
+                });
+    }
+    
+    @Override
+    public void batchDelete(Collection<PostLikeId> ids) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM post_likes WHERE post_id = ? AND user_id = ?",
+                ids, BATCH_SIZE,
+                (ps, id) -> {
+                    ps.setLong(1, id.getPostId());
+                    ps.setLong(2, id.getUserId());
+                });
+    }
+}
@@ -0,0 +1,31 @@
+package com.apple.appleplayground.domain.blog.repository;
+
+import com.apple.appleplayground.domain.blog.entity.PostLike;
+import com.apple.appleplayground.domain.blog.entity.PostLikeId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 포스트 좋아요 Repository
+ */
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>, PostLikeBatchRepository {
+    
+    /**
+     * 특정 포스트에 좋아요를 누른 사용자 ID 목록
+     */
+    @Query("SELECT pl.id.userId FROM PostLike pl WHERE pl.id.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+    
+    /**
+     * 특정 포스트의 좋아요 전체 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.id.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
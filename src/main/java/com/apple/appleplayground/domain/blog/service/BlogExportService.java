@@ -0,0 +1,86 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.dto.BlogPostExportRecord;
+import com.apple.appleplayground.domain.blog.entity.BlogPost;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 포스트 내보내기 서비스
+ * 전방향 JDBC 커서로 포스트를 한 건씩 읽어 NDJSON으로 출력하고, 출력한 엔티티는 즉시 영속성 컨텍스트에서 분리한다.
+ * 전체 포스트 수와 무관하게 메모리 사용량이 일정하다.
+ */
+@Service
+@Slf4j
+public class BlogExportService {
+    
+    private static final int FLUSH_INTERVAL = 1000;
+    
+    private final BlogPostRepository blogPostRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter recordWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    public BlogExportService(BlogPostRepository blogPostRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.blogPostRepository = blogPostRepository;
+        this.entityManager = entityManager;
+        // 레코드마다 응답 스트림을 닫거나 flush하지 않도록 설정
+        this.recordWriter = objectMapper.writerFor(BlogPostExportRecord.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    /**
+     * afterId 이후 포스트를 ID 순으로 NDJSON 출력
+     *
+     * @param afterId 이 ID 이후부터 출력 (중단된 내보내기 재개용, 처음부터는 0)
+     * @return 출력한 포스트 수
+     */
+    public long export(long afterId, OutputStream output) {
+        long startTime = System.currentTimeMillis();
+        
+        Long exported = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<BlogPost> posts = blogPostRepository.streamByIdGreaterThanOrderByIdAsc(afterId)) {
+                Iterator<BlogPost> iterator = posts.iterator();
+                while (iterator.hasNext()) {
+                    BlogPost blogPost = iterator.next();
+                    recordWriter.writeValue(output, BlogPostExportRecord.from(blogPost));
+                    output.write('\n');
+                    entityManager.detach(blogPost);
+                    
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        output.flush();
+                    }
+                }
+                output.flush();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등
+                throw new UncheckedIOException("포스트 내보내기 중 출력에 실패했습니다.", e);
+            }
+            return count;
+        });
+        
+        log.info("Exported {} blog posts after id {} in {} ms", exported, afterId, System.currentTimeMillis() - startTime);
+        return exported != null ? exported : 0;
+    }
+}
@@ -0,0 +1,308 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.auth.repository.UserRepository;
+import com.apple.appleplayground.domain.blog.dto.BlogPostExportRecord;
+import com.apple.appleplayground.domain.blog.dto.response.BlogImportResponse;
+import com.apple.appleplayground.domain.blog.entity.BlogPost;
+import com.apple.appleplayground.domain.blog.repository.BlogPostBatchRepository.NewPost;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.converter.CompressedTextConverter;
+import com.apple.appleplayground.global.id.TsidGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 포스트 일괄 가져오기 서비스
+ * 내보내기와 같은 NDJSON 형식을 읽어 JPA를 거치지 않고 JDBC 배치(다중 행 INSERT)로 저장한다.
+ * 배치마다 별도 트랜잭션으로 커밋하므로 대량 가져오기 중에도 트랜잭션과 메모리 크기가 일정하다.
+ */
+@Service
+@Slf4j
+public class BlogImportService {
+    
+    private static final int MAX_TITLE_LENGTH = 500;
+    private static final int MAX_ERROR_SAMPLES = 20;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+    private static final int MAX_ID_ATTEMPTS = 8;
+    
+    private final BlogPostRepository blogPostRepository;
+    private final UserRepository userRepository;
+    private final BlogSearchService blogSearchService;
+    private final PostSuggestService postSuggestService;
+    private final CollectionVersionService collectionVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader recordReader;
+    private final int batchSize;
+    
+    public BlogImportService(BlogPostRepository blogPostRepository,
+                             UserRepository userRepository,
+                             BlogSearchService blogSearchService,
+                             PostSuggestService postSuggestService,
+                             CollectionVersionService collectionVersionService,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${blog.import.batch-size:1000}") int batchSize) {
+        this.blogPostRepository = blogPostRepository;
+        this.userRepository = userRepository;
+        this.blogSearchService = blogSearchService;
+        this.postSuggestService = postSuggestService;
+        this.collectionVersionService = collectionVersionService;
+        this.transactionTemplate = transactionTemplate;
+        this.recordReader = objectMapper.readerFor(BlogPostExportRecord.class);
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * NDJSON 입력의 포스트를 일괄 저장
+     * 원본 ID는 사용하지 않고 작성일시 기준 시간순 ID를 부여하며, 존재하지 않는 작성자의 포스트나 형식이 잘못된 줄은 건너뛴다.
+     */
+    public BlogImportResponse importPosts(InputStream input) {
+        long startTime = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress();
+        List<ImportLine> chunk = new ArrayList<>(batchSize);
+        
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                
+                BlogPostExportRecord record = parse(line, lineNumber, progress);
+                if (record != null) {
+                    chunk.add(new ImportLine(lineNumber, record));
+                }
+                if (chunk.size() == batchSize) {
+                    insertChunk(chunk, progress);
+                    chunk.clear();
+                    logProgress(progress, startTime);
+                }
+            }
+            insertChunk(chunk, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 입력을 읽지 못했습니다.", e);
+        } finally {
+            afterImport(progress);
+        }
+        
+        long elapsed = System.currentTimeMillis() - startTime;
+        BlogImportResponse response = BlogImportResponse.of(progress.imported, progress.skipped, elapsed, progress.errors);
+        log.info("Imported {} blog posts ({} skipped) in {} ms, {} rows/s",
+                progress.imported, progress.skipped, elapsed, response.getRowsPerSecond());
+        return response;
+    }
+    
+    private BlogPostExportRecord parse(String line, long lineNumber, ImportProgress progress) {
+        BlogPostExportRecord record;
+        try {
+            record = recordReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.skip(lineNumber, "JSON 형식 오류");
+            return null;
+        }
+        
+        if (record.title() == null || record.title().isBlank() || record.title().length() > MAX_TITLE_LENGTH) {
+            progress.skip(lineNumber, "제목이 비어 있거나 너무 깁니다");
+            return null;
+        }
+        if (record.content() == null || record.content().isBlank()) {
+            progress.skip(lineNumber, "본문이 비어 있습니다");
+            return null;
+        }
+        if (record.authorId() == null) {
+            progress.skip(lineNumber, "작성자 ID가 없습니다");
+            return null;
+        }
+        return record;
+    }
+    
+    private void insertChunk(List<ImportLine> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        
+        // 처음 보는 작성자만 한 번에 존재 여부 확인
+        Set<Long> unknownAuthors = new HashSet<>();
+        for (ImportLine line : chunk) {
+            if (!progress.knownAuthors.contains(line.record().authorId())) {
+                unknownAuthors.add(line.record().authorId());
+            }
+        }
+        if (!unknownAuthors.isEmpty()) {
+            progress.knownAuthors.addAll(userRepository.findExistingIds(unknownAuthors));
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<NewPost> posts = new ArrayList<>(chunk.size());
+        Set<Long> usedIds = new HashSet<>();
+        Map<Long, Integer> postsPerAuthor = new TreeMap<>();
+        for (ImportLine line : chunk) {
+            Long authorId = line.record().authorId();
+            if (!progress.knownAuthors.contains(authorId)) {
+                progress.skip(line.lineNumber(), "존재하지 않는 작성자 " + authorId);
+                continue;
+            }
+            posts.add(toNewPost(line.record(), now, usedIds));
+            progress.importedAuthors.add(authorId);
+            postsPerAuthor.merge(authorId, 1, Integer::sum);
+        }
+        if (posts.isEmpty()) {
+            return;
+        }
+        resolveIdConflicts(posts, now, usedIds);
+        
+        // 작성자별 포스트 수는 같은 트랜잭션에서 갱신 (작성자 ID 순으로 잠가 교착 방지), 자동완성 색인은 커밋 후 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            blogPostRepository.batchInsert(posts);
+            postsPerAuthor.forEach(userRepository::addPostsCount);
+            postSuggestService.addPosts(posts.stream()
+                    .map(post -> new PostSuggestService.Entry(post.id(), post.title(),
+                            PostSuggestService.scoreOf(post.viewCount(), post.likeCount())))
+                    .toList());
+        });
+        blogSearchService.indexAll(posts.stream().map(NewPost::id).toList());
+        progress.imported += posts.size();
+    }
+    
+    /**
+     * 가져올 포스트 ID (작성일시 기준 시간순, 타임라인과 목록의 ID 순서가 원래 작성 순서와 같도록)
+     * 하위 비트는 임의 값이므로 청크 안에서 겹치면 다시 뽑고, 계속 겹치거나 작성일시가 현재 이후면 현재 시각 ID를 쓴다.
+     */
+    private static long importIdAt(LocalDateTime createdAt, LocalDateTime now, Set<Long> usedIds) {
+        if (createdAt.isBefore(now)) {
+            Instant instant = createdAt.atZone(ZoneId.systemDefault()).toInstant();
+            for (int attempt = 0; attempt < MAX_ID_ATTEMPTS; attempt++) {
+                long id = TsidGenerator.randomIdAt(instant);
+                if (usedIds.add(id)) {
+                    return id;
+                }
+            }
+        }
+        long id = TsidGenerator.current().nextId();
+        usedIds.add(id);
+        return id;
+    }
+    
+    /**
+     * 이미 존재하는 포스트와 ID가 겹치면 다시 뽑고, 다시 뽑은 ID도 겹치면 현재 시각 ID 사용 (IN 조회 최대 두 번)
+     */
+    private void resolveIdConflicts(List<NewPost> posts, LocalDateTime now, Set<Long> usedIds) {
+        Set<Long> taken = new HashSet<>(blogPostRepository.findExistingIds(usedIds));
+        if (taken.isEmpty()) {
+            return;
+        }
+        
+        Set<Long> retried = new HashSet<>();
+        for (int i = 0; i < posts.size(); i++) {
+            NewPost post = posts.get(i);
+            if (taken.contains(post.id())) {
+                NewPost renumbered = withId(post, importIdAt(post.createdAt(), now, usedIds));
+                posts.set(i, renumbered);
+                retried.add(renumbered.id());
+            }
+        }
+        Set<Long> stillTaken = new HashSet<>(blogPostRepository.findExistingIds(retried));
+        for (int i = 0; i < posts.size(); i++) {
+            if (stillTaken.contains(posts.get(i).id())) {
+                posts.set(i, withId(posts.get(i), TsidGenerator.current().nextId()));
+            }
+        }
+    }
+    
+    private NewPost toNewPost(BlogPostExportRecord record, LocalDateTime now, Set<Long> usedIds) {
+        String content = record.content();
+        LocalDateTime createdAt = record.createdAt() != null ? record.createdAt() : now;
+        LocalDateTime updatedAt = record.updatedAt() != null ? record.updatedAt() : createdAt;
+        
+        return new NewPost(
+                importIdAt(createdAt, now, usedIds),
+                record.title(),
+                CompressedTextConverter.encode(content),
+                BlogPost.excerptOf(content),
+                BlogPost.hashOf(content),
+                record.authorId(),
+                record.viewCount() != null ? record.viewCount() : 0,
+                record.likeCount() != null ? record.likeCount() : 0,
+                createdAt,
+                updatedAt);
+    }
+    
+    /**
+     * 목록 캐시 버전 갱신 (검색/자동완성 색인은 청크마다 반영)
+     * 타임라인 fan-out은 하지 않는다. (과거 글이 팔로워 피드를 덮지 않도록)
+     */
+    private void afterImport(ImportProgress progress) {
+        if (progress.imported == 0) {
+            return;
+        }
+        
+        List<String> versions = new ArrayList<>(progress.importedAuthors.size() + 1);
+        versions.add(BlogPostService.POSTS_VERSION);
+        progress.importedAuthors.forEach(authorId -> versions.add(BlogPostService.userPostsVersion(authorId)));
+        collectionVersionService.bump(versions.toArray(String[]::new));
+    }
+    
+    private static NewPost withId(NewPost post, long id) {
+        return new NewPost(id, post.title(), post.content(), post.excerpt(), post.contentHash(), post.authorId(),
+                post.viewCount(), post.likeCount(), post.createdAt(), post.updatedAt());
+    }
+    
+    private void logProgress(ImportProgress progress, long startTime) {
+        if (progress.imported >= progress.nextProgressLog) {
+            progress.nextProgressLog += PROGRESS_LOG_INTERVAL;
+            long elapsed = Math.max(System.currentTimeMillis() - startTime, 1);
+            log.info("Importing blog posts: {} imported, {} skipped, {} rows/s",
+                    progress.imported, progress.skipped, progress.imported * 1000 / elapsed);
+        }
+    }
+    
+    /**
+     * 입력 줄 번호와 파싱된 레코드
+     */
+    private record ImportLine(long lineNumber, BlogPostExportRecord record) {
+    }
+    
+    /**
+     * 가져오기 진행 상황
+     */
+    private static class ImportProgress {
+        
+        private final Set<Long> knownAuthors = new HashSet<>();
+        private final Set<Long> importedAuthors = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private long imported;
+        private long skipped;
+        private long nextProgressLog = PROGRESS_LOG_INTERVAL;
+        
+        private void skip(long lineNumber, String reason) {
+            skipped++;
+            if (errors.size() < MAX_ERROR_SAMPLES) {
+                errors.add(lineNumber + "번째 줄: " + reason);
+            }
+        }
+    }
+}
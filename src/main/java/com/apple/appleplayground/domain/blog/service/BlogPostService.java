@@ -2,18 +2,44 @@ package com.apple.appleplayground.domain.blog.service;
 
 import com.apple.appleplayground.domain.auth.entity.User;
 import com.apple.appleplayground.domain.auth.repository.UserRepository;
+import com.apple.appleplayground.domain.blog.dto.BlogPostSummary;
+import com.apple.appleplayground.domain.blog.dto.PostCounts;
+import com.apple.appleplayground.domain.blog.dto.PostCursor;
 import com.apple.appleplayground.domain.blog.dto.request.CreateBlogPostRequest;
 import com.apple.appleplayground.domain.blog.dto.request.UpdateBlogPostRequest;
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostBatchResponse;
 import com.apple.appleplayground.domain.blog.dto.response.BlogPostListResponse;
 import com.apple.appleplayground.domain.blog.dto.response.BlogPostResponse;
 import com.apple.appleplayground.domain.blog.entity.BlogPost;
 import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.domain.blog.repository.PostLikeRepository;
+import com.apple.appleplayground.global.cache.ApproximateCountService;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.json.JsonTemplate;
+import com.apple.appleplayground.global.json.RenderedJson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 블로그 포스트 관련 비즈니스 로직을 처리하는 서비스
@@ -24,8 +50,35 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class BlogPostService {
     
+    private static final int MAX_TRENDING_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+    
+    /**
+     * 목록 ETag에 넣는 카운트 갱신 주기 (목록의 조회수/좋아요 수는 이 주기마다 다시 내려받음)
+     */
+    private static final long LIST_COUNTERS_WINDOW_MILLIS = Duration.ofMinutes(1).toMillis();
+    
+    /**
+     * 전체 포스트 목록 버전 (포스트 생성/수정/삭제 시 증가)
+     */
+    static final String POSTS_VERSION = "blog:posts";
+    
+    
     private final BlogPostRepository blogPostRepository;
     private final UserRepository userRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ViewCountService viewCountService;
+    private final LikeService likeService;
+    private final BlogSearchService blogSearchService;
+    private final PostSuggestService postSuggestService;
+    private final PostCacheService postCacheService;
+    private final PostCounterService postCounterService;
+    private final TrendingService trendingService;
+    private final TimelineService timelineService;
+    private final MarkdownRenderService markdownRenderService;
+    private final CollectionVersionService collectionVersionService;
+    private final ApproximateCountService approximateCountService;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * 블로그 포스트 생성
@@ -34,13 +87,16 @@ public class BlogPostService {
     public BlogPostResponse createPost(Long authorId, CreateBlogPostRequest request) {
         User author = findUserById(authorId);
         
-        BlogPost blogPost = BlogPost.builder()
-                .title(request.getTitle())
-                .content(request.getContent())
-                .author(author)
-                .build();
+        BlogPost blogPost = BlogPost.create(request.getTitle(), request.getContent(), author);
         
         BlogPost savedPost = blogPostRepository.save(blogPost);
+        userRepository.addPostsCount(authorId, 1);
+        blogSearchService.index(savedPost);
+        postSuggestService.addPost(savedPost.getId(), savedPost.getTitle(), authorId, author.getUsername(),
+                (author.getPostsCount() != null ? author.getPostsCount() : 0) + 1);
+        markdownRenderService.renderAndStore(savedPost.getContentHash(), savedPost.getContent());
+        timelineService.publish(savedPost.getId(), authorId, author.getFollowersCount() != null ? author.getFollowersCount() : 0);
+        collectionVersionService.bump(POSTS_VERSION, userPostsVersion(authorId));
         log.info("Blog post created: {} by user {}", savedPost.getId(), authorId);
         
         return BlogPostResponse.from(savedPost);
@@ -48,41 +104,265 @@ public class BlogPostService {
     
     /**
      * 블로그 포스트 상세 조회 (조회수 증가)
+     * 본문과 작성자는 캐시된 스냅샷을 사용하고, 조회수/좋아요 수는 Redis 카운터 값을 덧씌운다.
+     * 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행하고, 캐시 미스 조회만 읽기 전용 트랜잭션(복제본)에서 실행
+     *
+     * @param includeHtml 렌더링된 본문 HTML 포함 여부 (생성/수정 시 렌더링해 둔 결과 사용)
      */
-    @Transactional
-    public BlogPostResponse getPost(Long postId) {
-        BlogPost blogPost = findBlogPostById(postId);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BlogPostResponse getPost(Long postId, boolean includeHtml) {
+        BlogPostResponse snapshot = getPostSnapshot(postId);
+        
+        recordView(postId);
+        PostCounts counts = postCounterService.get(postId);
+        
+        BlogPostResponse.BlogPostResponseBuilder response = snapshot.toBuilder()
+                .viewCount(counts.viewCount())
+                .likeCount(counts.likeCount());
+        if (includeHtml) {
+            response.renderedHtml(renderedHtmlOf(snapshot));
+        }
+        return response.build();
+    }
+    
+    /**
+     * 블로그 포스트 상세 조회 (조회수 증가, 미리 직렬화한 JSON)
+     * 본문은 노드에 캐시된 JSON 바이트를 그대로 쓰고 조회수/좋아요 수만 끼워 넣으므로 요청마다 본문을 직렬화하지 않는다.
+     *
+     * @param snapshot getPostSnapshot으로 조회한 스냅샷
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RenderedJson getPostJson(BlogPostResponse snapshot, boolean includeHtml) {
+        recordView(snapshot.getId());
+        PostCounts counts = postCounterService.get(snapshot.getId());
+        
+        JsonTemplate template = postCacheService.getJson(snapshot, includeHtml, () -> renderedHtmlOf(snapshot));
+        return template.render(counts.viewCount(), counts.likeCount());
+    }
+    
+    /**
+     * 여러 블로그 포스트 일괄 조회 (조회수 증가 없음)
+     * 캐시(L1 → L2)에 없는 포스트만 IN 절 한 번으로 조회하고, 요청한 ID 순서를 유지한다.
+     * 캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 실행하고, 캐시 미스 조회만 읽기 전용 트랜잭션(복제본)에서 실행
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BlogPostBatchResponse getPostsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 포스트 ID를 입력해주세요.");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("포스트 ID에 빈 값이 포함되어 있습니다.");
+        }
+        List<Long> requested = List.copyOf(new LinkedHashSet<>(ids));
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 포스트는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
         
-        // 조회수 증가 (원자적 연산)
-        blogPostRepository.incrementViewCount(postId);
-        blogPost.incrementViewCount(); // 메모리상 객체도 동기화
+        Map<Long, BlogPostResponse> snapshots = postCacheService.getAll(requested, missing -> readOnly(() ->
+                blogPostRepository.findAllWithAuthorByIdIn(missing).stream()
+                        .map(BlogPostResponse::from)
+                        .toList()));
+        Map<Long, PostCounts> counts = snapshots.isEmpty() ? Map.of() : postCounterService.getAll(snapshots.keySet());
         
-        return BlogPostResponse.from(blogPost);
+        List<BlogPostResponse> posts = new ArrayList<>(snapshots.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            BlogPostResponse snapshot = snapshots.get(id);
+            if (snapshot == null) {
+                missingIds.add(id);
+                continue;
+            }
+            PostCounts postCounts = counts.get(id);
+            posts.add(snapshot.toBuilder()
+                    .viewCount(postCounts != null ? postCounts.viewCount() : null)
+                    .likeCount(postCounts != null ? postCounts.likeCount() : null)
+                    .build());
+        }
+        return BlogPostBatchResponse.of(posts, missingIds);
+    }
+    
+    /**
+     * 포스트 스냅샷 조회 (조회수/좋아요 수 제외, 조건부 요청 판단용)
+     * 캐시 미스 조회만 읽기 전용 트랜잭션(복제본)에서 실행
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BlogPostResponse getPostSnapshot(Long postId) {
+        return postCacheService.get(postId, () -> readOnly(() -> BlogPostResponse.from(findBlogPostById(postId))));
+    }
+    
+    /**
+     * 조회 기록 (본문 변경이 없어 304로 응답하는 경우에도 조회수 집계)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordView(Long postId) {
+        viewCountService.increment(postId);
+        trendingService.recordView(postId);
+    }
+    
+    /**
+     * 포스트 상세 ETag (포스트 ID, 수정일시, 포스트별 카운터 버전 기준, HTML 포함 여부별로 구분)
+     * 응답에 조회수/좋아요 수가 들어가므로 해당 포스트의 카운터 버전을 포함해 카운터가 바뀌면 304로 묶이지 않게 한다.
+     * (좋아요는 바로, 조회수는 DB 반영 주기마다 조회된 포스트의 버전만 오름, 버전을 읽을 수 없으면 null)
+     */
+    public String getPostETag(BlogPostResponse snapshot, boolean includeHtml) {
+        String countersVersion = collectionVersionService.version(countersVersion(snapshot.getId()));
+        if (countersVersion == null) {
+            return null;
+        }
+        long updatedAt = snapshot.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return "W/\"post-" + snapshot.getId() + "-" + updatedAt + "-" + countersVersion + (includeHtml ? "-html" : "") + "\"";
+    }
+    
+    /**
+     * 전체 포스트 목록 ETag
+     */
+    public String getPostsETag() {
+        return listETag(POSTS_VERSION);
+    }
+    
+    /**
+     * 특정 사용자의 포스트 목록 ETag
+     */
+    public String getUserPostsETag(Long userId) {
+        return listETag(userPostsVersion(userId));
+    }
+    
+    /**
+     * 목록 ETag (목록 버전 + 카운트 갱신 주기 번호)
+     * 목록의 카운트는 포스트마다 버전을 둘 수 없으므로, 어느 포스트든 카운트가 바뀔 때마다 ETag가 바뀌지 않도록
+     * 주기 번호만 넣어 목록이 바뀌지 않으면 주기 동안 304로 응답한다. (버전을 읽을 수 없으면 null)
+     */
+    private String listETag(String collection) {
+        String version = collectionVersionService.version(collection);
+        if (version == null) {
+            return null;
+        }
+        return "W/\"" + version + "." + System.currentTimeMillis() / LIST_COUNTERS_WINDOW_MILLIS + "\"";
     }
     
     /**
      * 전체 블로그 포스트 목록 조회
+     * COUNT 없이 size + 1개를 조회하고, withTotal이면 주기적으로 갱신되는 근사 전체 개수를 함께 반환
      */
-    public BlogPostListResponse getAllPosts(Pageable pageable) {
-        Page<BlogPost> posts = blogPostRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return BlogPostListResponse.from(posts);
+    public BlogPostListResponse getAllPosts(Pageable pageable, boolean withTotal) {
+        Slice<BlogPostSummary> posts = blogPostRepository.findSummaries(pageable);
+        Long total = withTotal ? approximateCountService.get(POSTS_VERSION, blogPostRepository::count) : null;
+        return toSliceResponse(posts, total);
     }
     
     /**
      * 특정 사용자의 블로그 포스트 목록 조회
+     * COUNT 없이 size + 1개를 조회하고, withTotal이면 사용자 행에 캐시된 포스트 수를 전체 개수로 반환
      */
-    public BlogPostListResponse getUserPosts(Long userId, Pageable pageable) {
+    public BlogPostListResponse getUserPosts(Long userId, Pageable pageable, boolean withTotal) {
         User user = findUserById(userId);
-        Page<BlogPost> posts = blogPostRepository.findByAuthorOrderByCreatedAtDesc(user, pageable);
-        return BlogPostListResponse.from(posts);
+        Slice<BlogPostSummary> posts = blogPostRepository.findSummariesByAuthor(user, pageable);
+        Long total = withTotal ? (long) (user.getPostsCount() != null ? user.getPostsCount() : 0) : null;
+        return toSliceResponse(posts, total);
     }
     
     /**
-     * 블로그 포스트 검색
+     * 전체 블로그 포스트 목록 조회 (커서 기반)
+     * OFFSET과 COUNT 없이 인덱스를 탐색하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회
+     */
+    public BlogPostListResponse getAllPosts(String cursor, int size) {
+        PostCursor after = PostCursor.parse(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        
+        List<BlogPostSummary> posts = after == null
+                ? blogPostRepository.findLatest(limit)
+                : blogPostRepository.findLatestBefore(after.createdAt(), after.id(), limit);
+        return toCursorResponse(posts, size);
+    }
+    
+    /**
+     * 특정 사용자의 블로그 포스트 목록 조회 (커서 기반)
+     */
+    public BlogPostListResponse getUserPosts(Long userId, String cursor, int size) {
+        User user = findUserById(userId);
+        PostCursor after = PostCursor.parse(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        
+        List<BlogPostSummary> posts = after == null
+                ? blogPostRepository.findLatestByAuthor(user, limit)
+                : blogPostRepository.findLatestByAuthorBefore(user, after.createdAt(), after.id(), limit);
+        return toCursorResponse(posts, size);
+    }
+    
+    /**
+     * 블로그 포스트 검색 (전문 검색 색인 사용, 관련도순)
      */
     public BlogPostListResponse searchPosts(String keyword, Pageable pageable) {
-        Page<BlogPost> posts = blogPostRepository.findByTitleOrContentContainingIgnoreCase(keyword, pageable);
-        return BlogPostListResponse.from(posts);
+        BlogSearchService.SearchResult result = blogSearchService.search(
+                keyword, pageable.getPageNumber(), pageable.getPageSize());
+        
+        List<Long> postIds = result.hits().stream()
+                .map(BlogSearchService.SearchHit::postId)
+                .toList();
+        Map<Long, BlogPostResponse> postsById = toSummaryResponses(blogPostRepository.findSummariesByIdIn(postIds)).stream()
+                .collect(Collectors.toMap(BlogPostResponse::getId, Function.identity()));
+        
+        // 색인 순서(관련도순)를 유지하고, 색인 반영 전에 삭제된 포스트는 제외
+        List<BlogPostResponse> posts = result.hits().stream()
+                .filter(hit -> postsById.containsKey(hit.postId()))
+                .map(hit -> postsById.get(hit.postId()).toBuilder()
+                        .highlight(hit.highlight())
+                        .build())
+                .toList();
+        
+        return BlogPostListResponse.of(posts, pageable.getPageNumber(), pageable.getPageSize(), result.totalHits());
+    }
+    
+    /**
+     * 홈 피드 조회 (팔로우 중인 사용자의 포스트, 커서 기반 최신순)
+     * 미리 만들어 둔 타임라인과 팔로워가 많은 작성자의 최근 포스트를 합친다.
+     */
+    public BlogPostListResponse getFeed(Long userId, String cursor, int size) {
+        Long beforeId = parseFeedCursor(cursor);
+        
+        TreeSet<Long> postIds = new TreeSet<>(Comparator.reverseOrder());
+        postIds.addAll(timelineService.getPostIds(userId, beforeId, size + 1));
+        
+        List<Long> celebrityIds = timelineService.getCelebrityAuthorIds(userId);
+        if (!celebrityIds.isEmpty()) {
+            postIds.addAll(blogPostRepository.findLatestIdsByAuthorIds(
+                    celebrityIds, beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, size + 1)));
+        }
+        
+        List<Long> pageIds = postIds.stream().limit(size).toList();
+        String nextCursor = postIds.size() > size ? pageIds.get(pageIds.size() - 1).toString() : null;
+        
+        Map<Long, BlogPostResponse> postsById = toSummaryResponses(blogPostRepository.findSummariesByIdIn(pageIds)).stream()
+                .collect(Collectors.toMap(BlogPostResponse::getId, Function.identity()));
+        
+        // 타임라인에 남아 있는 삭제된 포스트는 제외
+        List<BlogPostResponse> posts = pageIds.stream()
+                .filter(postsById::containsKey)
+                .map(postsById::get)
+                .toList();
+        
+        return BlogPostListResponse.ofCursor(posts, size, nextCursor);
+    }
+    
+    /**
+     * 인기 포스트 목록 조회 (시간 감쇠 점수순)
+     */
+    public BlogPostListResponse getTrendingPosts(int size) {
+        if (size < 1 || size > MAX_TRENDING_SIZE) {
+            throw new IllegalArgumentException("조회할 포스트 수는 1~" + MAX_TRENDING_SIZE + " 사이여야 합니다.");
+        }
+        
+        List<Long> postIds = trendingService.getTopPostIds(size);
+        Map<Long, BlogPostResponse> postsById = toSummaryResponses(blogPostRepository.findSummariesByIdIn(postIds)).stream()
+                .collect(Collectors.toMap(BlogPostResponse::getId, Function.identity()));
+        
+        // 랭킹 순서를 유지하고, 랭킹 반영 전에 삭제된 포스트는 제외
+        List<BlogPostResponse> posts = postIds.stream()
+                .filter(postsById::containsKey)
+                .map(postsById::get)
+                .toList();
+        
+        return BlogPostListResponse.of(posts, 0, size, posts.size());
     }
     
     /**
@@ -92,13 +372,22 @@ public class BlogPostService {
     public BlogPostResponse updatePost(Long postId, Long currentUserId, UpdateBlogPostRequest request) {
         BlogPost blogPost = findBlogPostById(postId);
         
-        // 작성자 권한 확인
-        if (!blogPost.isAuthor(findUserById(currentUserId))) {
+        // 작성자 권한 확인 (외래 키 ID 비교, 사용자 조회 없음)
+        if (!blogPost.isAuthor(currentUserId)) {
             throw new IllegalArgumentException("포스트 수정 권한이 없습니다.");
         }
         
+        String oldTitle = blogPost.getTitle();
         blogPost.updatePost(request.getTitle(), request.getContent());
         BlogPost updatedPost = blogPostRepository.save(blogPost);
+        blogSearchService.index(updatedPost);
+        if (!oldTitle.equals(updatedPost.getTitle())) {
+            postSuggestService.updatePost(postId, oldTitle, updatedPost.getTitle(),
+                    PostSuggestService.scoreOf(updatedPost.getViewCount(), updatedPost.getLikeCount()));
+        }
+        markdownRenderService.renderAndStore(updatedPost.getContentHash(), updatedPost.getContent());
+        postCacheService.evict(postId);
+        collectionVersionService.bump(POSTS_VERSION, userPostsVersion(currentUserId));
         
         log.info("Blog post updated: {} by user {}", postId, currentUserId);
         
@@ -110,54 +399,164 @@ public class BlogPostService {
      */
     @Transactional
     public void deletePost(Long postId, Long currentUserId) {
-        BlogPost blogPost = findBlogPostById(postId);
-        
-        // 작성자 권한 확인
-        if (!blogPost.isAuthor(findUserById(currentUserId))) {
+        postLikeRepository.deleteByPostId(postId);
+        // 작성자 조건부 삭제로 권한 확인 (삭제되지 않은 경우에만 원인 구분, 예외로 좋아요 삭제도 롤백됨)
+        if (blogPostRepository.deleteByIdAndAuthorId(postId, currentUserId) == 0) {
+            if (!blogPostRepository.existsById(postId)) {
+                throw new IllegalArgumentException("존재하지 않는 포스트입니다. ID: " + postId);
+            }
             throw new IllegalArgumentException("포스트 삭제 권한이 없습니다.");
         }
-        
-        blogPostRepository.delete(blogPost);
+        userRepository.addPostsCount(currentUserId, -1);
+        viewCountService.discard(postId);
+        likeService.discard(postId);
+        blogSearchService.delete(postId);
+        postSuggestService.removePost(postId);
+        postCacheService.evict(postId);
+        postCounterService.discard(postId);
+        trendingService.discard(postId);
+        collectionVersionService.bump(POSTS_VERSION, userPostsVersion(currentUserId));
         log.info("Blog post deleted: {} by user {}", postId, currentUserId);
     }
     
     /**
-     * 블로그 포스트 좋아요 증가
+     * 블로그 포스트 좋아요 (사용자당 한 번)
      */
-    @Transactional
-    public BlogPostResponse incrementLike(Long postId) {
-        BlogPost blogPost = findBlogPostById(postId);
-        
-        // 좋아요 증가 (원자적 연산)
-        blogPostRepository.incrementLikeCount(postId);
-        blogPost.incrementLikeCount(); // 메모리상 객체도 동기화
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BlogPostResponse incrementLike(Long postId, Long currentUserId) {
+        verifyPostExists(postId);
         
-        log.info("Like incremented for post: {}", postId);
+        LikeService.LikeResult result = likeService.like(postId, currentUserId);
+        log.debug("Like {} for post {} by user {}", result.changed() ? "added" : "unchanged", postId, currentUserId);
+        if (result.changed()) {
+            trendingService.recordLike(postId, true);
+        }
         
-        return BlogPostResponse.from(blogPost);
+        return toLikeResponse(postId, result);
     }
     
     /**
-     * 블로그 포스트 좋아요 감소
+     * 블로그 포스트 좋아요 취소
      */
-    @Transactional
-    public BlogPostResponse decrementLike(Long postId) {
-        BlogPost blogPost = findBlogPostById(postId);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BlogPostResponse decrementLike(Long postId, Long currentUserId) {
+        verifyPostExists(postId);
         
-        // 좋아요 감소 (원자적 연산)
-        blogPostRepository.decrementLikeCount(postId);
-        blogPost.decrementLikeCount(); // 메모리상 객체도 동기화
+        LikeService.LikeResult result = likeService.unlike(postId, currentUserId);
+        log.debug("Like {} for post {} by user {}", result.changed() ? "removed" : "unchanged", postId, currentUserId);
+        if (result.changed()) {
+            trendingService.recordLike(postId, false);
+        }
         
-        log.info("Like decremented for post: {}", postId);
+        return toLikeResponse(postId, result);
+    }
+    
+    /**
+     * size + 1개 조회 결과로 커서 기반 목록 응답 생성
+     */
+    private BlogPostListResponse toCursorResponse(List<BlogPostSummary> posts, int size) {
+        boolean hasNext = posts.size() > size;
+        List<BlogPostSummary> page = hasNext ? posts.subList(0, size) : posts;
+        String nextCursor = hasNext ? PostCursor.of(page.get(page.size() - 1)).encode() : null;
+        
+        return BlogPostListResponse.ofCursor(toSummaryResponses(page), size, nextCursor);
+    }
+    
+    /**
+     * size + 1개 조회 결과로 오프셋 목록 응답 생성
+     */
+    private BlogPostListResponse toSliceResponse(Slice<BlogPostSummary> summaries, Long total) {
+        return BlogPostListResponse.ofSlice(toSummaryResponses(summaries.getContent()),
+                summaries.getNumber(), summaries.getSize(), summaries.hasNext(), total);
+    }
+    
+    /**
+     * 목록용 프로젝션을 응답으로 변환 (작성자는 ID 목록으로 한 번에 조회)
+     */
+    private List<BlogPostResponse> toSummaryResponses(List<BlogPostSummary> summaries) {
+        List<Long> authorIds = summaries.stream()
+                .map(BlogPostSummary::authorId)
+                .distinct()
+                .toList();
+        Map<Long, User> authors = userRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
         
-        return BlogPostResponse.from(blogPost);
+        return summaries.stream()
+                .map(summary -> BlogPostResponse.fromSummary(summary, authors.get(summary.authorId())))
+                .toList();
+    }
+    
+    /**
+     * 렌더링된 본문 HTML 조회 (생성/수정 시 렌더링해 둔 결과 사용)
+     */
+    private String renderedHtmlOf(BlogPostResponse snapshot) {
+        String contentHash = snapshot.getContentHash() != null
+                ? snapshot.getContentHash()
+                : BlogPost.hashOf(snapshot.getContent());
+        return markdownRenderService.getRenderedHtml(contentHash, snapshot::getContent);
+    }
+    
+    /**
+     * 좋아요 처리 결과를 반영한 응답 생성 (캐시된 스냅샷에 현재 카운터 값을 덧씌움)
+     */
+    private BlogPostResponse toLikeResponse(Long postId, LikeService.LikeResult result) {
+        PostCounts counts = postCounterService.get(postId);
+        return getPostSnapshot(postId).toBuilder()
+                .viewCount(counts.viewCount())
+                .likeCount(counts.likeCount())
+                .liked(result.liked())
+                .build();
+    }
+    
+    static String userPostsVersion(Long userId) {
+        return "blog:user-posts:" + userId;
+    }
+    
+    /**
+     * 포스트별 조회수/좋아요 수 버전 (좋아요 변경 시, 조회수가 DB에 반영될 때 증가)
+     */
+    static String countersVersion(Long postId) {
+        return "blog:counters:" + postId;
+    }
+    
+    /**
+     * 피드 커서(마지막 포스트 ID) 해석
+     */
+    private Long parseFeedCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+    
+    /**
+     * 읽기 전용 트랜잭션에서 조회 (트랜잭션 없이 실행되는 메서드의 캐시 미스 조회를 복제본으로 보내기 위함)
+     * 이미 트랜잭션 안에서 호출되면 그 트랜잭션에 참여한다.
+     */
+    private <T> T readOnly(Supplier<T> loader) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+    
+    /**
+     * 포스트 존재 확인 (본문 없이 카운트 컬럼만 조회)
+     */
+    private void verifyPostExists(Long postId) {
+        if (blogPostRepository.findCountsById(postId).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 포스트입니다. ID: " + postId);
+        }
     }
     
     /**
      * 블로그 포스트 ID로 BlogPost 엔티티 조회
      */
     private BlogPost findBlogPostById(Long postId) {
-        return blogPostRepository.findById(postId)
+        return blogPostRepository.findWithAuthorById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 포스트입니다. ID: " + postId));
     }
     
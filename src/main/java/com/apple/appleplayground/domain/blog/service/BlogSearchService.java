@@ -0,0 +1,432 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.entity.BlogPost;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 블로그 포스트 전문 검색 서비스
+ * 로컬 디스크의 Lucene 색인(MMapDirectory)을 사용하며, 한국어 검색을 위해 CJK bigram 분석기를 사용한다.
+ * 색인은 노드마다 따로 있으므로 포스트 생성/수정/삭제는 커밋 후 이 노드에 반영하고 Redis pub/sub으로 다른 노드에 전파한다.
+ * (메시지에 제목과 본문을 담아 받는 노드가 DB를 다시 읽지 않음) 검색기는 주기적으로 갱신되어 준실시간으로 반영된다.
+ */
+@Service
+@Slf4j
+public class BlogSearchService {
+    
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int HIGHLIGHT_MAX_LENGTH = 100_000;
+    private static final String CHANGE_CHANNEL = "blog:search:change";
+    
+    private final BlogPostRepository blogPostRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Path indexPath;
+    private final Analyzer analyzer = new CJKAnalyzer();
+    
+    private final Object writeLock = new Object();
+    
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    
+    // 재생성 중에는 검색기 갱신과 디스크 커밋을 멈춰 이전 색인으로 응답한다
+    private volatile boolean rebuilding;
+    
+    // 재생성 중 들어온 변경 (재생성이 끝나면 새 색인에 다시 적용), writeLock으로 보호
+    private List<IndexChange> pendingChanges;
+    
+    public BlogSearchService(BlogPostRepository blogPostRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             ObjectMapper objectMapper,
+                             @Value("${blog.search.index-path:./data/search-index}") String indexPath) {
+        this.blogPostRepository = blogPostRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.indexPath = Path.of(indexPath);
+    }
+    
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexPath);
+        directory = new MMapDirectory(indexPath);
+        
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+        
+        log.info("Blog search index opened at {} ({} documents)", indexPath, indexWriter.getDocStats().numDocs);
+        
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onIndexChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANGE_CHANNEL));
+    }
+    
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+    
+    /**
+     * 색인이 비어 있으면 애플리케이션 시작 후 전체 색인 생성
+     */
+    @Async("asyncExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        if (indexWriter.getDocStats().numDocs == 0 && blogPostRepository.count() > 0) {
+            log.info("Blog search index is empty, rebuilding from database");
+            rebuild();
+        }
+    }
+    
+    /**
+     * 포스트 색인 추가 또는 갱신 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void index(BlogPost blogPost) {
+        afterCommit(IndexChange.index(blogPost));
+    }
+    
+    /**
+     * 포스트 색인 삭제 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void delete(Long postId) {
+        afterCommit(IndexChange.delete(postId));
+    }
+    
+    /**
+     * 키워드 검색 (BM25 점수순)
+     */
+    public SearchResult search(String keyword, int page, int size) {
+        Query query = parseQuery(keyword);
+        
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            
+            int totalHits = searcher.count(query);
+            int from = page * size;
+            if (from >= totalHits) {
+                return new SearchResult(List.of(), totalHits);
+            }
+            
+            TopDocs topDocs = searcher.search(query, from + size);
+            ScoreDoc[] pageDocs = Arrays.copyOfRange(topDocs.scoreDocs, from, topDocs.scoreDocs.length);
+            
+            UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                    .withFormatter(new DefaultPassageFormatter("<em>", "</em>", "... ", true))
+                    .withMaxLength(HIGHLIGHT_MAX_LENGTH)
+                    .build();
+            String[] highlights = highlighter.highlight(FIELD_CONTENT, query, new TopDocs(topDocs.totalHits, pageDocs), 1);
+            
+            List<SearchHit> hits = new ArrayList<>(pageDocs.length);
+            for (int i = 0; i < pageDocs.length; i++) {
+                Document document = searcher.storedFields().document(pageDocs[i].doc);
+                hits.add(new SearchHit(Long.valueOf(document.get(FIELD_ID)), highlights[i]));
+            }
+            return new SearchResult(hits, totalHits);
+        
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 중 오류가 발생했습니다.", e);
+        } finally {
+            release(searcher);
+        }
+    }
+    
+    /**
+     * DB 전체 스캔으로 색인 재생성
+     * 재생성이 끝날 때까지 검색기를 갱신하지 않아 검색은 이전 색인으로 응답하고, 그동안 들어온 변경은 모았다가
+     * 스캔이 끝난 뒤 순서대로 다시 적용하므로 스캔이 읽은 이전 값이 최신 변경을 덮지 않는다.
+     */
+    public synchronized long rebuild() {
+        long startTime = System.currentTimeMillis();
+        long indexed = 0;
+        synchronized (writeLock) {
+            pendingChanges = new ArrayList<>();
+            rebuilding = true;
+        }
+        
+        try {
+            indexWriter.deleteAll();
+            
+            Long lastId = 0L;
+            List<BlogPost> chunk;
+            do {
+                chunk = blogPostRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (BlogPost blogPost : chunk) {
+                    indexWriter.addDocument(toDocument(blogPost));
+                    lastId = blogPost.getId();
+                }
+                indexed += chunk.size();
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+            
+            applyPendingChanges();
+            indexWriter.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 재생성에 실패했습니다.", e);
+        } finally {
+            applyPendingChanges();
+            rebuilding = false;
+            refresh();
+        }
+        
+        log.info("Blog search index rebuilt: {} posts in {} ms", indexed, System.currentTimeMillis() - startTime);
+        return indexed;
+    }
+    
+    /**
+     * 커밋된 포스트들을 모든 노드의 색인에 반영 (일괄 가져오기 후 색인 반영용, 디스크 커밋은 주기적인 commit에 맡김)
+     */
+    @Async("asyncExecutor")
+    public void indexAll(Collection<Long> postIds) {
+        List<IndexChange> changes = blogPostRepository.findAllById(postIds).stream()
+                .map(IndexChange::index)
+                .toList();
+        changes.forEach(this::applyChange);
+        publish(changes);
+    }
+    
+    /**
+     * 검색기 갱신 (준실시간 반영)
+     */
+    @Scheduled(fixedDelayString = "${blog.search.refresh-interval:1000}")
+    public void refresh() {
+        if (rebuilding) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Failed to refresh blog search index: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 변경 사항을 디스크에 커밋
+     */
+    @Scheduled(fixedDelayString = "${blog.search.commit-interval:30000}")
+    public void commit() {
+        if (rebuilding) {
+            // 재생성 도중의 빈 색인이 디스크에 커밋되지 않도록
+            return;
+        }
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to commit blog search index: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 커밋 후 이 노드에 반영하고 다른 노드에 전파 (롤백되면 반영하지 않음)
+     */
+    private void afterCommit(IndexChange change) {
+        Runnable apply = () -> {
+            applyChange(change);
+            publish(List.of(change));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+    
+    private void publish(List<IndexChange> changes) {
+        try {
+            List<String> messages = new ArrayList<>(changes.size());
+            for (IndexChange change : changes) {
+                messages.add(objectMapper.writeValueAsString(change));
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                messages.forEach(message -> stringConnection.publish(CHANGE_CHANNEL, message));
+                return null;
+            });
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 다른 노드는 다음 재생성 때 반영된다
+            log.warn("Failed to publish {} search index changes: {}", changes.size(), e.getMessage());
+        }
+    }
+    
+    private void onIndexChanged(String message) {
+        try {
+            applyChange(objectMapper.readValue(message, IndexChange.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring invalid search index message: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 색인 변경 적용 (같은 변경을 여러 번 받아도 결과가 같음, 재생성 중에는 모아 둠)
+     */
+    private void applyChange(IndexChange change) {
+        synchronized (writeLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+                return;
+            }
+            write(change);
+        }
+    }
+    
+    /**
+     * 재생성 중 모아 둔 변경을 적용하고 모으기 중단
+     */
+    private void applyPendingChanges() {
+        synchronized (writeLock) {
+            if (pendingChanges == null) {
+                return;
+            }
+            pendingChanges.forEach(this::write);
+            pendingChanges = null;
+        }
+    }
+    
+    private void write(IndexChange change) {
+        Term id = new Term(FIELD_ID, change.postId().toString());
+        try {
+            if (change.deleted()) {
+                indexWriter.deleteDocuments(id);
+            } else {
+                indexWriter.updateDocument(id, toDocument(change));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to apply search index change for post {}: {}", change.postId(), e.getMessage());
+        }
+    }
+    
+    private Document toDocument(BlogPost blogPost) {
+        return toDocument(IndexChange.index(blogPost));
+    }
+    
+    private Document toDocument(IndexChange change) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, change.postId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, change.title(), Field.Store.YES));
+        document.add(new TextField(FIELD_CONTENT, change.content(), Field.Store.YES));
+        return document;
+    }
+    
+    private Query parseQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색 키워드를 입력해주세요.");
+        }
+        
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[]{FIELD_TITLE, FIELD_CONTENT},
+                analyzer,
+                Map.of(FIELD_TITLE, 2.0f, FIELD_CONTENT, 1.0f));
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        
+        try {
+            return parser.parse(QueryParser.escape(keyword.trim()));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("검색 키워드를 해석할 수 없습니다: " + keyword);
+        }
+    }
+    
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 노드 간에 전파하는 색인 변경 (삭제면 제목과 본문 없음)
+     */
+    private record IndexChange(Long postId, boolean deleted, String title, String content) {
+        
+        static IndexChange index(BlogPost blogPost) {
+            return new IndexChange(blogPost.getId(), false, blogPost.getTitle(), blogPost.getContent());
+        }
+        
+        static IndexChange delete(Long postId) {
+            return new IndexChange(postId, true, null, null);
+        }
+    }
+    
+    /**
+     * 검색 결과
+     */
+    public record SearchResult(List<SearchHit> hits, long totalHits) {
+    }
+    
+    /**
+     * 검색 결과 항목 (포스트 ID와 본문 하이라이트)
+     */
+    public record SearchHit(Long postId, String highlight) {
+    }
+}
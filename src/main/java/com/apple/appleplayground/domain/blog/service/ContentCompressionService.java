@@ -0,0 +1,78 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.entity.BlogPost;
+import com.apple.appleplayground.domain.blog.repository.BlogPostBatchRepository.StoredContent;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.global.converter.CompressedTextConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포스트 본문 압축 마이그레이션 서비스
+ * 압축 저장 도입 이전에 원문으로 저장된 본문을 애플리케이션 시작 후 청크 단위로 압축 형식으로 다시 저장한다.
+ * 청크를 읽은 뒤 사용자가 수정한 포스트는 수정일시가 달라 덮어쓰지 않는다. (수정 시 이미 압축 형식으로 저장됨)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCompressionService {
+    
+    private static final int CHUNK_SIZE = 200;
+    
+    private final BlogPostRepository blogPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Async("asyncExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        long startTime = System.currentTimeMillis();
+        long scanned = 0;
+        long migrated = 0;
+        long originalChars = 0;
+        long storedChars = 0;
+        
+        long lastId = 0;
+        List<StoredContent> chunk;
+        do {
+            chunk = blogPostRepository.findStoredContentAfter(lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastId = chunk.get(chunk.size() - 1).id();
+            scanned += chunk.size();
+            
+            List<StoredContent> plain = new ArrayList<>();
+            for (StoredContent content : chunk) {
+                if (CompressedTextConverter.isEncoded(content.content())) {
+                    continue;
+                }
+                String encoded = CompressedTextConverter.encode(content.content());
+                plain.add(new StoredContent(content.id(), encoded, BlogPost.excerptOf(content.content()), content.updatedAt()));
+                originalChars += content.content().length();
+                storedChars += encoded.length();
+            }
+            if (plain.isEmpty()) {
+                continue;
+            }
+            
+            List<Long> skipped = transactionTemplate.execute(status -> blogPostRepository.batchUpdateStoredContent(plain));
+            if (skipped != null && !skipped.isEmpty()) {
+                log.info("Skipped {} blog posts modified during compression: {}", skipped.size(), skipped);
+            }
+            migrated += plain.size() - (skipped != null ? skipped.size() : 0);
+        } while (chunk.size() == CHUNK_SIZE);
+        
+        if (migrated > 0) {
+            log.info("Compressed {} of {} blog posts in {} ms (stored size {}%)",
+                    migrated, scanned, System.currentTimeMillis() - startTime, storedChars * 100 / Math.max(1, originalChars));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포스트 요약 백필 서비스
+ * 요약 컬럼 추가 이전에 작성된 포스트의 요약을 애플리케이션 시작 후 청크 단위로 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExcerptBackfillService {
+    
+    private static final int CHUNK_SIZE = 1000;
+    
+    private final BlogPostRepository blogPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Async("asyncExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> blogPostRepository.backfillExcerpts(CHUNK_SIZE));
+            total += updated != null ? updated : 0;
+        } while (updated != null && updated == CHUNK_SIZE);
+        
+        if (total > 0) {
+            log.info("Backfilled excerpts for {} blog posts", total);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.entity.PostLikeId;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.domain.blog.repository.PostLikeRepository;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.cache.FlushRecoveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사용자별 좋아요 서비스
+ * 좋아요 여부는 포스트별 Redis Set으로 판단하고, 좋아요/취소 내역과 좋아요 수 변화량은 주기적으로 DB에 일괄 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeService {
+    
+    // Redis Cluster에서 한 스크립트가 다루는 키가 같은 슬롯에 있도록 해시 태그로 묶음
+    // (좋아요 사용자 Set은 포스트 카운터와 {포스트 ID}로, 대기/분리 해시는 {like}로)
+    private static final String USERS_KEY_PREFIX = "blog:like:users:";
+    private static final String PENDING_KEY = "blog:{like}:pending";
+    private static final String OPS_KEY = "blog:{like}:ops";
+    private static final String FLUSHING_PENDING_PREFIX = "blog:{like}:flushing:pending:";
+    private static final String FLUSHING_OPS_PREFIX = "blog:{like}:flushing:ops:";
+    
+    // 비어 있는 좋아요 목록도 적재 완료로 구분하기 위한 표식 (사용자 ID는 항상 양수)
+    private static final String LOADED_MARKER = "0";
+    private static final Duration USERS_TTL = Duration.ofDays(1);
+    // 이보다 오래된 분리 해시는 반영 도중 중단된 것으로 보고 되돌림 (정상 반영은 수 초 안에 끝남)
+    private static final Duration STALE_FLUSH_AGE = Duration.ofMinutes(5);
+    
+    /**
+     * 좋아요 추가/취소 스크립트
+     * 실제로 상태가 바뀐 경우에만 적재된 포스트 카운터를 함께 갱신한다.
+     * KEYS: {좋아요 사용자 Set, 포스트 카운터}, ARGV: {사용자 ID, 변화량(1/-1)}
+     * 반환값: 변경 여부 (1/0, 미적재 시 -1)
+     */
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local changed
+            if ARGV[2] == '1' then
+                changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            if changed == 1 and redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('HINCRBY', KEYS[2], 'likes', tonumber(ARGV[2]))
+            end
+            return changed
+            """, Long.class);
+    
+    /**
+     * 바뀐 좋아요의 변화량과 반영 대기 내역 기록
+     * KEYS: {대기 해시, 내역 해시}, ARGV: {사용자 ID, 포스트 ID, 변화량(1/-1)}
+     * 반환값: DB 미반영 좋아요 수
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[2], ARGV[2] .. ':' .. ARGV[1], ARGV[3])
+            return redis.call('HINCRBY', KEYS[1], ARGV[2], tonumber(ARGV[3]))
+            """, Long.class);
+    
+    /**
+     * 반영 대기 해시 두 개를 원자적으로 분리하는 스크립트
+     */
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local moved = 0
+            for i = 1, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('RENAME', KEYS[i], KEYS[i + 2])
+                    moved = moved + 1
+                end
+            end
+            return moved
+            """, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionVersionService collectionVersionService;
+    private final FlushRecoveryService flushRecoveryService;
+    
+    /**
+     * 좋아요 추가
+     */
+    public LikeResult like(Long postId, Long userId) {
+        return toggle(postId, userId, true);
+    }
+    
+    /**
+     * 좋아요 취소
+     */
+    public LikeResult unlike(Long postId, Long userId) {
+        return toggle(postId, userId, false);
+    }
+    
+    /**
+     * 좋아요 여부 확인
+     */
+    public boolean isLiked(Long postId, Long userId) {
+        ensureLoaded(postId);
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(usersKey(postId), userId.toString()));
+    }
+    
+    /**
+     * DB에 반영되지 않은 좋아요 수 변화량 조회
+     */
+    public long getPending(Long postId) {
+        try {
+            Object pending = redisTemplate.opsForHash().get(PENDING_KEY, postId.toString());
+            return pending != null ? Long.parseLong(pending.toString()) : 0L;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read pending likes for post {}: {}", postId, e.getMessage());
+            return 0L;
+        }
+    }
+    
+    /**
+     * 삭제된 포스트의 좋아요 캐시 제거
+     */
+    public void discard(Long postId) {
+        try {
+            redisTemplate.delete(usersKey(postId));
+            redisTemplate.opsForHash().delete(PENDING_KEY, postId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to discard likes for post {}: {}", postId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 좋아요/취소 내역과 좋아요 수를 DB에 일괄 반영
+     * DB 반영에 실패한 경우에만 분리한 해시를 되돌리고, 반영 후 삭제에 실패한 키는 되돌리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${blog.like.flush-interval:5000}")
+    public void flush() {
+        String flushId = FlushRecoveryService.newFlushId();
+        String flushingPendingKey = FLUSHING_PENDING_PREFIX + flushId;
+        String flushingOpsKey = FLUSHING_OPS_PREFIX + flushId;
+        
+        try {
+            Long moved = redisTemplate.execute(DRAIN_SCRIPT,
+                    List.of(PENDING_KEY, OPS_KEY, flushingPendingKey, flushingOpsKey));
+            if (moved == null || moved == 0) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Skip like flush: {}", e.getMessage());
+            return;
+        }
+        
+        Map<Long, Long> deltas = new TreeMap<>();
+        redisTemplate.<String, String>opsForHash().entries(flushingPendingKey)
+                .forEach((postId, delta) -> deltas.put(Long.valueOf(postId), Long.valueOf(delta)));
+        
+        List<PostLikeId> likes = new ArrayList<>();
+        List<PostLikeId> unlikes = new ArrayList<>();
+        redisTemplate.<String, String>opsForHash().entries(flushingOpsKey).forEach((field, op) -> {
+            String[] ids = field.split(":");
+            PostLikeId id = new PostLikeId(Long.valueOf(ids[0]), Long.valueOf(ids[1]));
+            if ("1".equals(op)) {
+                likes.add(id);
+            } else {
+                unlikes.add(id);
+            }
+        });
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                postLikeRepository.batchInsert(likes);
+                postLikeRepository.batchDelete(unlikes);
+                blogPostRepository.addLikeCounts(deltas);
+            });
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 다음 주기에 다시 시도하도록 대기 해시로 되돌림 (분리 이후 들어온 내역이 더 최신이므로 유지)
+            log.error("Failed to flush likes, restoring pending entries: {}", e.getMessage());
+            flushRecoveryService.restore(flushingPendingKey, PENDING_KEY, FlushRecoveryService.MergeMode.INCREMENT);
+            flushRecoveryService.restore(flushingOpsKey, OPS_KEY, FlushRecoveryService.MergeMode.KEEP_NEWER);
+            return;
+        }
+        
+        flushRecoveryService.discard(List.of(flushingPendingKey, flushingOpsKey));
+        log.debug("Flushed likes: {} added, {} removed, {} posts", likes.size(), unlikes.size(), deltas.size());
+    }
+    
+    /**
+     * 반영 도중 종료되거나 되돌리기에 실패해 남은 분리 해시를 대기 해시로 되돌림 (시작 시 한 번, 이후 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${blog.like.sweep-interval:60000}")
+    public void sweepStaleFlushes() {
+        flushRecoveryService.sweep(FLUSHING_PENDING_PREFIX, PENDING_KEY, FlushRecoveryService.MergeMode.INCREMENT, STALE_FLUSH_AGE);
+        flushRecoveryService.sweep(FLUSHING_OPS_PREFIX, OPS_KEY, FlushRecoveryService.MergeMode.KEEP_NEWER, STALE_FLUSH_AGE);
+    }
+    
+    private LikeResult toggle(Long postId, Long userId, boolean like) {
+        List<String> keys = List.of(usersKey(postId), PostCounterService.countsKey(postId));
+        String delta = like ? "1" : "-1";
+        
+        Long result = redisTemplate.execute(TOGGLE_SCRIPT, keys, userId.toString(), delta);
+        if (result != null && result < 0) {
+            // 좋아요 목록이 아직 적재되지 않은 경우 DB에서 적재 후 재시도
+            ensureLoaded(postId);
+            result = redisTemplate.execute(TOGGLE_SCRIPT, keys, userId.toString(), delta);
+        }
+        if (result == null || result < 0) {
+            throw new IllegalStateException("좋아요 처리에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        boolean changed = result == 1;
+        if (!changed) {
+            return new LikeResult(like, false, getPending(postId));
+        }
+        
+        Long pending;
+        try {
+            pending = redisTemplate.execute(RECORD_SCRIPT, List.of(PENDING_KEY, OPS_KEY),
+                    userId.toString(), postId.toString(), delta);
+        } catch (DataAccessException e) {
+            // 내역을 남기지 못하면 DB에 반영되지 않으므로 좋아요 상태를 되돌림
+            redisTemplate.execute(TOGGLE_SCRIPT, keys, userId.toString(), like ? "-1" : "1");
+            throw e;
+        }
+        // 좋아요 수가 들어간 상세 응답의 ETag가 바로 바뀌도록
+        collectionVersionService.bump(BlogPostService.countersVersion(postId));
+        return new LikeResult(like, true, pending != null ? pending : 0L);
+    }
+    
+    /**
+     * 포스트의 좋아요 사용자 목록을 Redis Set에 적재
+     */
+    private void ensureLoaded(Long postId) {
+        String key = usersKey(postId);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return;
+        }
+        
+        List<Long> userIds = postLikeRepository.findUserIdsByPostId(postId);
+        String[] members = new String[userIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < userIds.size(); i++) {
+            members[i + 1] = userIds.get(i).toString();
+        }
+        
+        redisTemplate.opsForSet().add(key, members);
+        redisTemplate.expire(key, USERS_TTL);
+    }
+    
+    private String usersKey(Long postId) {
+        return USERS_KEY_PREFIX + "{" + postId + "}";
+    }
+    
+    /**
+     * 좋아요 처리 결과
+     *
+     * @param liked 처리 후 좋아요 상태
+     * @param changed 실제로 상태가 바뀌었는지 여부
+     * @param pendingDelta DB에 반영되지 않은 좋아요 수 변화량
+     */
+    public record LikeResult(boolean liked, boolean changed, long pendingDelta) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 마크다운 렌더링 서비스
+ * 본문을 원시 HTML과 위험한 URL이 제거된 HTML로 변환하고, 본문 해시를 키로 Redis에 저장한다.
+ * 같은 본문은 한 번만 렌더링되며 상세 조회 시에는 저장된 HTML을 그대로 사용한다.
+ */
+@Service
+@Slf4j
+public class MarkdownRenderService {
+    
+    private static final String RENDER_KEY_PREFIX = "blog:render:";
+    
+    private static final List<Extension> EXTENSIONS = List.of(
+            TablesExtension.create(),
+            StrikethroughExtension.create());
+    
+    private final StringRedisTemplate redisTemplate;
+    private final Duration renderTtl;
+    private final Parser parser = Parser.builder()
+            .extensions(EXTENSIONS)
+            .build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+    
+    public MarkdownRenderService(StringRedisTemplate redisTemplate,
+                                 @Value("${blog.render.ttl:30d}") Duration renderTtl) {
+        this.redisTemplate = redisTemplate;
+        this.renderTtl = renderTtl;
+    }
+    
+    /**
+     * 마크다운을 안전한 HTML로 변환
+     */
+    public String render(String markdown) {
+        return renderer.render(parser.parse(markdown));
+    }
+    
+    /**
+     * 본문을 렌더링해 저장 (포스트 생성/수정 시, 같은 해시가 이미 있으면 생략)
+     */
+    public void renderAndStore(String contentHash, String content) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.expire(renderKey(contentHash), renderTtl))) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to check rendered html {}: {}", contentHash, e.getMessage());
+            return;
+        }
+        store(contentHash, render(content));
+    }
+    
+    /**
+     * 저장된 HTML 조회
+     * 저장된 값이 없으면(만료 또는 렌더링 도입 이전 포스트) 한 번 렌더링해 저장한다.
+     */
+    public String getRenderedHtml(String contentHash, Supplier<String> content) {
+        try {
+            String html = redisTemplate.opsForValue().get(renderKey(contentHash));
+            if (html != null) {
+                return html;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read rendered html {}: {}", contentHash, e.getMessage());
+            return render(content.get());
+        }
+        
+        String html = render(content.get());
+        store(contentHash, html);
+        return html;
+    }
+    
+    private void store(String contentHash, String html) {
+        try {
+            redisTemplate.opsForValue().set(renderKey(contentHash), html, renderTtl);
+        } catch (DataAccessException e) {
+            // 조회 시 다시 렌더링되므로 실패해도 진행
+            log.warn("Failed to store rendered html {}: {}", contentHash, e.getMessage());
+        }
+    }
+    
+    private String renderKey(String contentHash) {
+        return RENDER_KEY_PREFIX + contentHash;
+    }
+}
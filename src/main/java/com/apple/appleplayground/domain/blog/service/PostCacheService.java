@@ -0,0 +1,306 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostResponse;
+import com.apple.appleplayground.global.json.JsonTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 포스트 상세 캐시 서비스
+ * 노드 로컬 Caffeine 캐시(L1)와 Redis 캐시(L2)에 포스트 본문과 작성자 스냅샷을 보관한다.
+ * 조회수/좋아요 수는 스냅샷에 포함하지 않고 조회 시점에 별도로 덧씌운다.
+ * 수정/삭제 시 Redis pub/sub으로 모든 노드의 L1 항목을 무효화한다.
+ * 상세 응답은 L1 스냅샷을 UTF-8 JSON 바이트로 직렬화한 템플릿으로도 보관해, 요청마다 본문을 다시 직렬화하지 않는다.
+ * 무효화할 때는 L2 키를 지우지 않고 매번 다른 무효화 표시로 덮어쓰며, L2 적재는 DB 조회 전에 읽은 값이 그대로일 때만 쓴다.
+ * 따라서 무효화 이전에 DB에서 읽은 스냅샷이 무효화 이후에 L2에 다시 적재되지 않는다. (키 하나만 다루므로 Redis Cluster에서도 동작)
+ */
+@Service
+@Slf4j
+public class PostCacheService {
+    
+    private static final String DETAIL_KEY_PREFIX = "blog:post:detail:";
+    private static final String INVALIDATE_CHANNEL = "blog:post:invalidate";
+    
+    /**
+     * 무효화 표시 접두사 (스냅샷 JSON은 항상 '{'로 시작하므로 구분됨)
+     */
+    private static final String INVALIDATED_PREFIX = "~invalidated:";
+    
+    /**
+     * 키 값이 조회 전과 같을 때만 스냅샷 적재 (조회 전 값이 없었으면 ARGV[1]은 빈 문자열)
+     * KEYS: {스냅샷 키}, ARGV: {조회 전 값, 스냅샷 JSON, TTL(ms)}
+     */
+    private static final String FILL_SCRIPT = """
+            if (redis.call('GET', KEYS[1]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """;
+    private static final RedisScript<Long> FILL = new DefaultRedisScript<>(FILL_SCRIPT, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration sharedTtl;
+    private final Cache<Long, BlogPostResponse> localCache;
+    private final Cache<JsonKey, CachedJson> jsonCache;
+    
+    public PostCacheService(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${blog.post-cache.local-ttl:5m}") Duration localTtl,
+                            @Value("${blog.post-cache.local-max-size:10000}") long localMaxSize,
+                            @Value("${blog.post-cache.shared-ttl:30m}") Duration sharedTtl,
+                            @Value("${blog.post-cache.json-max-size:64MB}") DataSize jsonMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.sharedTtl = sharedTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.jsonCache = Caffeine.newBuilder()
+                .maximumWeight(jsonMaxSize.toBytes())
+                .weigher((JsonKey key, CachedJson json) -> json.template().size())
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+    
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+    
+    /**
+     * 포스트 스냅샷 조회 (L1 → L2 → loader 순)
+     * 같은 노드에서 동시에 들어온 미스는 한 번만 로드된다.
+     */
+    public BlogPostResponse get(Long postId, Supplier<BlogPostResponse> loader) {
+        return localCache.get(postId, id -> loadShared(id, loader));
+    }
+    
+    /**
+     * 여러 포스트 스냅샷 조회 (L1 → L2 → loader 순, 단계마다 남은 ID를 한 번에 조회)
+     *
+     * @param loader L1/L2에 없는 포스트들을 한 번에 조회
+     * @return 포스트 ID별 스냅샷 (존재하지 않는 포스트는 제외)
+     */
+    public Map<Long, BlogPostResponse> getAll(Collection<Long> postIds,
+                                              Function<Collection<Long>, List<BlogPostResponse>> loader) {
+        Map<Long, BlogPostResponse> snapshots = new HashMap<>(localCache.getAllPresent(postIds));
+        List<Long> remaining = postIds.stream().filter(id -> !snapshots.containsKey(id)).toList();
+        if (remaining.isEmpty()) {
+            return snapshots;
+        }
+        
+        List<Long> missing = new ArrayList<>();
+        Map<Long, String> observed = new HashMap<>();
+        try {
+            List<String> cached = redisTemplate.opsForValue().multiGet(remaining.stream().map(this::detailKey).toList());
+            for (int i = 0; i < remaining.size(); i++) {
+                String json = cached != null ? cached.get(i) : null;
+                if (!isSnapshot(json)) {
+                    missing.add(remaining.get(i));
+                    observed.put(remaining.get(i), json != null ? json : "");
+                    continue;
+                }
+                BlogPostResponse snapshot = objectMapper.readValue(json, BlogPostResponse.class);
+                localCache.put(remaining.get(i), snapshot);
+                snapshots.put(remaining.get(i), snapshot);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            // 조회 전 값을 모르는 포스트는 L2에 적재하지 않음
+            log.warn("Failed to read cached posts: {}", e.getMessage());
+            missing.clear();
+            remaining.stream().filter(id -> !snapshots.containsKey(id)).forEach(missing::add);
+        }
+        if (missing.isEmpty()) {
+            return snapshots;
+        }
+        
+        Map<Long, String> toCache = new HashMap<>();
+        for (BlogPostResponse loaded : loader.apply(missing)) {
+            BlogPostResponse snapshot = toSnapshot(loaded);
+            localCache.put(snapshot.getId(), snapshot);
+            snapshots.put(snapshot.getId(), snapshot);
+            if (!observed.containsKey(snapshot.getId())) {
+                continue;
+            }
+            try {
+                toCache.put(snapshot.getId(), objectMapper.writeValueAsString(snapshot));
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to cache post {}: {}", snapshot.getId(), e.getMessage());
+            }
+        }
+        if (toCache.isEmpty()) {
+            return snapshots;
+        }
+        try {
+            String ttlMillis = String.valueOf(sharedTtl.toMillis());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                toCache.forEach((postId, json) -> stringConnection.eval(FILL_SCRIPT, ReturnType.INTEGER, 1,
+                        detailKey(postId), observed.get(postId), json, ttlMillis));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to cache {} posts: {}", toCache.size(), e.getMessage());
+        }
+        return snapshots;
+    }
+    
+    /**
+     * 포스트 상세 JSON 템플릿 조회 (조회수/좋아요 수 슬롯 포함)
+     * 템플릿은 만들 때 사용한 L1 스냅샷과 같은 객체일 때만 재사용하므로, 스냅샷이 다시 적재되면 함께 다시 만든다.
+     *
+     * @param renderedHtml includeHtml인 경우 본문 HTML 공급자
+     */
+    public JsonTemplate getJson(BlogPostResponse snapshot, boolean includeHtml, Supplier<String> renderedHtml) {
+        JsonKey key = new JsonKey(snapshot.getId(), includeHtml);
+        CachedJson cached = jsonCache.getIfPresent(key);
+        if (cached != null && cached.source() == snapshot) {
+            return cached.template();
+        }
+        
+        BlogPostResponse response = snapshot.toBuilder()
+                .renderedHtml(includeHtml ? renderedHtml.get() : null)
+                .viewCount(JsonTemplate.PLACEHOLDER)
+                .likeCount(JsonTemplate.PLACEHOLDER)
+                .build();
+        try {
+            JsonTemplate template = JsonTemplate.of(objectMapper.writeValueAsBytes(response), "viewCount", "likeCount");
+            jsonCache.put(key, new CachedJson(snapshot, template));
+            return template;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포스트 응답을 직렬화할 수 없습니다. ID: " + snapshot.getId(), e);
+        }
+    }
+    
+    /**
+     * 포스트 스냅샷 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여 다른 노드가 이전 값을 다시 적재하지 않도록 한다.
+     */
+    public void evict(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(postId);
+            }
+        });
+    }
+    
+    private BlogPostResponse loadShared(Long postId, Supplier<BlogPostResponse> loader) {
+        String key = detailKey(postId);
+        String observed = null;
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (isSnapshot(json)) {
+                return objectMapper.readValue(json, BlogPostResponse.class);
+            }
+            observed = json != null ? json : "";
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read cached post {}: {}", postId, e.getMessage());
+        }
+        
+        BlogPostResponse snapshot = toSnapshot(loader.get());
+        if (observed == null) {
+            // 조회 전 값을 모르면 L2에 적재하지 않음
+            return snapshot;
+        }
+        try {
+            redisTemplate.execute(FILL, List.of(key),
+                    observed, objectMapper.writeValueAsString(snapshot), String.valueOf(sharedTtl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to cache post {}: {}", postId, e.getMessage());
+        }
+        return snapshot;
+    }
+    
+    /**
+     * 캐시할 스냅샷 생성 (자주 바뀌거나 요청마다 다른 필드 제외)
+     */
+    private BlogPostResponse toSnapshot(BlogPostResponse response) {
+        return response.toBuilder()
+                .viewCount(null)
+                .likeCount(null)
+                .liked(null)
+                .highlight(null)
+                .build();
+    }
+    
+    private void evictNow(Long postId) {
+        invalidateLocal(postId);
+        try {
+            // 진행 중인 적재가 덮어쓰지 못하도록 지우지 않고 새 무효화 표시로 교체 (스냅샷 TTL 동안 유지)
+            redisTemplate.opsForValue().set(detailKey(postId), INVALIDATED_PREFIX + UUID.randomUUID(), sharedTtl);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, postId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to invalidate cached post {}: {}", postId, e.getMessage());
+        }
+    }
+    
+    private void onInvalidate(String postId) {
+        try {
+            invalidateLocal(Long.valueOf(postId));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid post cache invalidation message: {}", postId);
+        }
+    }
+    
+    private void invalidateLocal(Long postId) {
+        localCache.invalidate(postId);
+        jsonCache.invalidate(new JsonKey(postId, false));
+        jsonCache.invalidate(new JsonKey(postId, true));
+    }
+    
+    private String detailKey(Long postId) {
+        return DETAIL_KEY_PREFIX + postId;
+    }
+    
+    private static boolean isSnapshot(String value) {
+        return value != null && !value.startsWith(INVALIDATED_PREFIX);
+    }
+    
+    private record JsonKey(Long postId, boolean includeHtml) {
+    }
+    
+    private record CachedJson(BlogPostResponse source, JsonTemplate template) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.dto.PostCounts;
+import com.apple.appleplayground.domain.blog.dto.PostIdCounts;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포스트 조회수/좋아요 수 카운터 서비스
+ * 캐시된 포스트 스냅샷에 덧씌울 현재 카운트를 Redis 해시에 절대값으로 보관한다.
+ * 카운터가 없으면 DB 값과 반영 대기 중인 변화량으로 적재하고, 이후 증가분은 조회/좋아요 스크립트가 함께 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterService {
+    
+    private static final String COUNTS_KEY_PREFIX = "blog:post:counts:";
+    static final String FIELD_VIEWS = "views";
+    static final String FIELD_LIKES = "likes";
+    
+    // DB 반영과 적재가 겹쳐 생길 수 있는 오차를 주기적으로 바로잡기 위해 짧게 유지
+    private static final Duration COUNTS_TTL = Duration.ofMinutes(10);
+    
+    /**
+     * 카운터가 없을 때만 적재하는 스크립트
+     * 반환값: {조회수, 좋아요 수}
+     */
+    private static final RedisScript<List> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], 'views', ARGV[1], 'likes', ARGV[2])
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            return redis.call('HMGET', KEYS[1], 'views', 'likes')
+            """, List.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final BlogPostRepository blogPostRepository;
+    private final ViewCountService viewCountService;
+    private final LikeService likeService;
+    
+    /**
+     * 포스트 카운터 키 (조회/좋아요 스크립트에서 함께 갱신)
+     * 좋아요 스크립트가 같은 포스트의 좋아요 사용자 Set과 함께 다루므로 포스트 ID를 해시 태그로 둔다.
+     */
+    static String countsKey(Long postId) {
+        return COUNTS_KEY_PREFIX + "{" + postId + "}";
+    }
+    
+    /**
+     * 현재 조회수/좋아요 수 조회
+     */
+    public PostCounts get(Long postId) {
+        String key = countsKey(postId);
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of(FIELD_VIEWS, FIELD_LIKES));
+            if (values.get(0) == null || values.get(1) == null) {
+                PostCounts seed = loadFromDatabase(postId);
+                values = redisTemplate.execute(SEED_SCRIPT, List.of(key),
+                        seed.viewCount().toString(), seed.likeCount().toString(), String.valueOf(COUNTS_TTL.toMillis()));
+            }
+            return new PostCounts(Integer.valueOf(values.get(0).toString()), Integer.valueOf(values.get(1).toString()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read counters for post {}: {}", postId, e.getMessage());
+            return loadFromDatabase(postId);
+        }
+    }
+    
+    /**
+     * 여러 포스트의 현재 조회수/좋아요 수 조회
+     * Redis 카운터는 한 번의 파이프라인으로 읽고, 카운터가 없는 포스트는 DB에서 한 번에 조회한다. (카운터 적재는 상세 조회에 맡김)
+     *
+     * @return 포스트 ID별 카운트 (존재하지 않는 포스트는 제외)
+     */
+    public Map<Long, PostCounts> getAll(Collection<Long> postIds) {
+        List<Long> ids = List.copyOf(postIds);
+        Map<Long, PostCounts> counts = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long postId : ids) {
+                    stringConnection.hMGet(countsKey(postId), FIELD_VIEWS, FIELD_LIKES);
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                List<?> values = (List<?>) results.get(i);
+                if (values == null || values.get(0) == null || values.get(1) == null) {
+                    missing.add(ids.get(i));
+                    continue;
+                }
+                counts.put(ids.get(i), new PostCounts(
+                        Integer.valueOf(values.get(0).toString()), Integer.valueOf(values.get(1).toString())));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to read counters for {} posts: {}", ids.size(), e.getMessage());
+            missing.clear();
+            missing.addAll(ids);
+        }
+        
+        if (!missing.isEmpty()) {
+            for (PostIdCounts stored : blogPostRepository.findCountsByIdIn(missing)) {
+                counts.put(stored.postId(), withPending(stored.postId(), stored.viewCount(), stored.likeCount()));
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * 삭제된 포스트의 카운터 제거
+     */
+    public void discard(Long postId) {
+        try {
+            redisTemplate.delete(countsKey(postId));
+        } catch (DataAccessException e) {
+            log.warn("Failed to discard counters for post {}: {}", postId, e.getMessage());
+        }
+    }
+    
+    /**
+     * DB에 저장된 카운트와 반영 대기 중인 변화량 합산
+     */
+    private PostCounts loadFromDatabase(Long postId) {
+        PostCounts stored = blogPostRepository.findCountsById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 포스트입니다. ID: " + postId));
+        return withPending(postId, stored.viewCount(), stored.likeCount());
+    }
+    
+    private PostCounts withPending(Long postId, int viewCount, int likeCount) {
+        return new PostCounts(
+                viewCount + (int) viewCountService.getPending(postId),
+                Math.max(0, likeCount + (int) likeService.getPending(postId)));
+    }
+}
@@ -0,0 +1,323 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.dto.PostSuggestSource;
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.global.index.PrefixIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 포스트 제목/작성자 자동완성 서비스
+ * 키 입력마다 검색 색인을 조회하지 않도록 메모리의 접두사 색인(PrefixIndex)에서 바로 답한다.
+ * 시작 시 DB를 ID 순으로 훑어 색인을 만들고, 포스트 생성/수정/삭제/가져오기는 커밋 후 Redis pub/sub으로 모든 노드에 반영한다.
+ * 점수(조회수/좋아요 수), 놓친 변경, 삭제로 빈 후보 자리는 주기적인 재생성으로 맞춘다.
+ */
+@Service
+@Slf4j
+public class PostSuggestService {
+    
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    private static final String CHANGE_CHANNEL = "blog:suggest:change";
+    
+    private final BlogPostRepository blogPostRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final int topK;
+    private final int maxDepth;
+    private final int maxNodes;
+    private final int maxTokens;
+    
+    private final Object writeLock = new Object();
+    
+    private volatile Indexes indexes;
+    
+    // 재생성 중 들어온 변경 (재생성이 끝나면 새 색인에 다시 적용), writeLock으로 보호
+    private List<Consumer<Indexes>> pendingWrites;
+    
+    public PostSuggestService(BlogPostRepository blogPostRepository,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              ObjectMapper objectMapper,
+                              @Value("${blog.suggest.top-k:10}") int topK,
+                              @Value("${blog.suggest.max-depth:20}") int maxDepth,
+                              @Value("${blog.suggest.max-nodes:500000}") int maxNodes,
+                              @Value("${blog.suggest.max-tokens:8}") int maxTokens) {
+        this.blogPostRepository = blogPostRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxTokens = maxTokens;
+        this.indexes = newIndexes();
+    }
+    
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onIndexChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANGE_CHANNEL));
+    }
+    
+    /**
+     * 애플리케이션 시작 후 색인 생성
+     */
+    @Async("asyncExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+    
+    /**
+     * 주기적 색인 재생성 (점수 갱신, 삭제된 후보 자리 채우기)
+     */
+    @Scheduled(fixedDelayString = "${blog.suggest.rebuild-interval:3600000}",
+               initialDelayString = "${blog.suggest.rebuild-interval:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+    
+    /**
+     * 접두사로 시작하는 포스트 제목과 작성자 조회 (점수순)
+     */
+    public SuggestResult suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > topK) {
+            throw new IllegalArgumentException("조회할 후보 수는 1~" + topK + " 사이여야 합니다.");
+        }
+        
+        Indexes current = indexes;
+        return new SuggestResult(current.posts().search(prefix, size), current.authors().search(prefix, size));
+    }
+    
+    /**
+     * 새 포스트 반영 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void addPost(Long postId, String title, Long authorId, String authorUsername, int authorPostsCount) {
+        afterCommit(new IndexChange(List.of(),
+                List.of(new Entry(postId, title, 0)),
+                List.of(new Entry(authorId, authorUsername, authorPostsCount))));
+    }
+    
+    /**
+     * 가져온 포스트 반영 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     * 처음 보는 작성자는 작성자명을 알 수 없으므로 다음 재생성 때 작성자 색인에 추가된다.
+     */
+    public void addPosts(List<Entry> posts) {
+        if (!posts.isEmpty()) {
+            afterCommit(new IndexChange(List.of(), posts, List.of()));
+        }
+    }
+    
+    /**
+     * 포스트 제목 변경 반영 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     */
+    public void updatePost(Long postId, String oldTitle, String newTitle, long score) {
+        afterCommit(new IndexChange(
+                List.of(new Entry(postId, oldTitle, 0)),
+                List.of(new Entry(postId, newTitle, score)),
+                List.of()));
+    }
+    
+    /**
+     * 삭제된 포스트 제거 (트랜잭션 안에서 호출되면 커밋 후 반영)
+     * 제목은 각 노드가 자기 색인에서 찾으므로 삭제 시 포스트를 다시 조회하지 않아도 된다.
+     */
+    public void removePost(Long postId) {
+        afterCommit(new IndexChange(List.of(new Entry(postId, null, 0)), List.of(), List.of()));
+    }
+    
+    /**
+     * DB 전체 스캔으로 색인 재생성
+     * 새 색인은 별도로 만든 뒤 교체하므로 재생성 중에도 기존 색인으로 응답한다.
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        
+        try {
+            Indexes fresh = newIndexes();
+            Set<Long> indexedAuthors = new HashSet<>();
+            long indexed = 0;
+            
+            Long lastId = 0L;
+            List<PostSuggestSource> chunk;
+            do {
+                chunk = blogPostRepository.findSuggestSources(lastId, PageRequest.of(0, BUILD_CHUNK_SIZE));
+                for (PostSuggestSource source : chunk) {
+                    fresh.posts().add(source.title(), new Suggestion(source.postId(), source.title()), scoreOf(source));
+                    fresh.postTitles().put(source.postId(), source.title());
+                    if (indexedAuthors.add(source.authorId())) {
+                        fresh.authors().add(source.authorUsername(),
+                                new Suggestion(source.authorId(), source.authorUsername()),
+                                source.authorPostsCount() != null ? source.authorPostsCount() : 0);
+                    }
+                    lastId = source.postId();
+                }
+                indexed += chunk.size();
+            } while (chunk.size() == BUILD_CHUNK_SIZE);
+            
+            synchronized (writeLock) {
+                pendingWrites.forEach(write -> write.accept(fresh));
+                indexes = fresh;
+            }
+            
+            if (fresh.posts().isFull() || fresh.authors().isFull()) {
+                log.warn("Suggest index reached max nodes ({}), longer prefixes are not indexed", maxNodes);
+            }
+            log.info("Suggest index rebuilt: {} posts, {} authors, {} + {} nodes in {} ms",
+                    indexed, indexedAuthors.size(), fresh.posts().nodeCount(), fresh.authors().nodeCount(),
+                    System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild suggest index: {}", e.getMessage());
+        } finally {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+        }
+    }
+    
+    /**
+     * 자동완성 점수 (인기 랭킹과 같은 가중치)
+     */
+    static long scoreOf(Integer viewCount, Integer likeCount) {
+        double views = viewCount != null ? viewCount : 0;
+        double likes = likeCount != null ? likeCount : 0;
+        return Math.round(views * TrendingService.VIEW_WEIGHT + likes * TrendingService.LIKE_WEIGHT);
+    }
+    
+    private long scoreOf(PostSuggestSource source) {
+        return scoreOf(source.viewCount(), source.likeCount());
+    }
+    
+    /**
+     * 커밋 후 이 노드에 반영하고 다른 노드에 전파 (롤백되면 반영하지 않음)
+     */
+    private void afterCommit(IndexChange change) {
+        Runnable publish = () -> {
+            applyChange(change);
+            try {
+                redisTemplate.convertAndSend(CHANGE_CHANNEL, objectMapper.writeValueAsString(change));
+            } catch (DataAccessException | JsonProcessingException e) {
+                // 다른 노드는 다음 재생성 때 반영된다
+                log.warn("Failed to publish suggest index change: {}", e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+    
+    private void onIndexChanged(String message) {
+        try {
+            applyChange(objectMapper.readValue(message, IndexChange.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring invalid suggest index message: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 색인 변경 적용 (제거 후 추가, 같은 변경을 여러 번 받아도 결과가 같음)
+     * 제목 없이 제거 요청된 포스트는 색인에 등록된 제목으로 제거한다.
+     */
+    private void applyChange(IndexChange change) {
+        apply(index -> {
+            change.removedPosts().forEach(post -> {
+                String title = post.text() != null ? post.text() : index.postTitles().get(post.id());
+                if (title != null) {
+                    index.posts().remove(title, new Suggestion(post.id(), title));
+                    index.postTitles().remove(post.id(), title);
+                }
+            });
+            change.addedPosts().forEach(post -> {
+                index.posts().add(post.text(), new Suggestion(post.id(), post.text()), post.score());
+                index.postTitles().put(post.id(), post.text());
+            });
+            change.addedAuthors().forEach(author ->
+                    index.authors().add(author.text(), new Suggestion(author.id(), author.text()), author.score()));
+        });
+    }
+    
+    private void apply(Consumer<Indexes> write) {
+        synchronized (writeLock) {
+            write.accept(indexes);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        }
+    }
+    
+    private Indexes newIndexes() {
+        return new Indexes(
+                new PrefixIndex<>(topK, maxDepth, maxNodes, maxTokens),
+                new PrefixIndex<>(topK, maxDepth, maxNodes, maxTokens),
+                new HashMap<>());
+    }
+    
+    /**
+     * 포스트/작성자 접두사 색인과 포스트 ID별 제목 (제목 없이 삭제할 때 사용, writeLock으로 보호)
+     */
+    private record Indexes(PrefixIndex<Suggestion> posts, PrefixIndex<Suggestion> authors, Map<Long, String> postTitles) {
+    }
+    
+    /**
+     * 노드 간에 전파하는 색인 변경
+     */
+    private record IndexChange(List<Entry> removedPosts, List<Entry> addedPosts, List<Entry> addedAuthors) {
+    }
+    
+    /**
+     * 색인 항목 (포스트 ID와 제목, 또는 사용자 ID와 사용자명, 점수)
+     */
+    public record Entry(Long id, String text, long score) {
+    }
+    
+    /**
+     * 자동완성 후보 (포스트 ID와 제목, 또는 사용자 ID와 사용자명)
+     */
+    public record Suggestion(Long id, String text) {
+    }
+    
+    /**
+     * 자동완성 결과
+     */
+    public record SuggestResult(List<Suggestion> posts, List<Suggestion> authors) {
+    }
+}
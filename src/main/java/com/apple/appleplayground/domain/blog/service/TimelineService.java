@@ -0,0 +1,213 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.domain.follow.repository.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * 팔로우 기반 홈 타임라인 서비스
+ * 사용자별 타임라인을 Redis Sorted Set(점수 = 포스트 ID)으로 유지한다.
+ * 팔로워가 적은 작성자의 새 포스트는 작성 시 팔로워 타임라인에 밀어 넣고(fan-out on write),
+ * 팔로워가 많은 작성자의 포스트는 조회 시점에 DB에서 가져와 합친다.
+ */
+@Service
+@Slf4j
+public class TimelineService {
+    
+    private static final String TIMELINE_KEY_PREFIX = "blog:timeline:";
+    
+    // 비어 있는 타임라인도 적재 완료로 구분하기 위한 표식 (점수 0, 포스트 ID는 항상 양수)
+    private static final String LOADED_MARKER = "0";
+    private static final int FAN_OUT_CHUNK_SIZE = 500;
+    
+    /**
+     * 적재된 타임라인에만 포스트를 추가하고 최대 길이를 넘는 오래된 항목 제거
+     * 키 하나만 다루므로 Redis Cluster에서도 동작하며, 팔로워별 호출은 파이프라인으로 묶어 보낸다.
+     * KEYS: {타임라인 키}, ARGV: {포스트 ID, 최대 길이}
+     */
+    private static final String FAN_OUT_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 1, -(tonumber(ARGV[2]) + 1))
+            end
+            return 0
+            """;
+    
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final Executor asyncExecutor;
+    private final int timelineSize;
+    private final int celebrityThreshold;
+    private final Duration timelineTtl;
+    
+    public TimelineService(StringRedisTemplate redisTemplate,
+                           FollowRepository followRepository,
+                           BlogPostRepository blogPostRepository,
+                           @Qualifier("asyncExecutor") Executor asyncExecutor,
+                           @Value("${blog.feed.timeline-size:800}") int timelineSize,
+                           @Value("${blog.feed.celebrity-threshold:10000}") int celebrityThreshold,
+                           @Value("${blog.feed.timeline-ttl:7d}") Duration timelineTtl) {
+        this.redisTemplate = redisTemplate;
+        this.followRepository = followRepository;
+        this.blogPostRepository = blogPostRepository;
+        this.asyncExecutor = asyncExecutor;
+        this.timelineSize = timelineSize;
+        this.celebrityThreshold = celebrityThreshold;
+        this.timelineTtl = timelineTtl;
+    }
+    
+    /**
+     * 새 포스트를 팔로워 타임라인에 전파 (커밋 이후 비동기 실행)
+     * 팔로워 수가 기준 이상인 작성자는 전파하지 않고 조회 시점에 합친다.
+     */
+    public void publish(Long postId, Long authorId, int authorFollowersCount) {
+        if (authorFollowersCount >= celebrityThreshold) {
+            return;
+        }
+        
+        Runnable fanOut = () -> asyncExecutor.execute(() -> fanOut(postId, authorId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fanOut.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fanOut.run();
+            }
+        });
+    }
+    
+    /**
+     * 타임라인에서 beforeId 이전 포스트 ID 조회 (최신순, 비어 있으면 DB에서 재구성)
+     */
+    public List<Long> getPostIds(Long userId, Long beforeId, int limit) {
+        String key = timelineKey(userId);
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                rebuild(userId);
+            }
+            double max = beforeId != null ? beforeId - 1 : Double.MAX_VALUE;
+            Set<String> postIds = redisTemplate.opsForZSet().reverseRangeByScore(key, 1, max, 0, limit);
+            redisTemplate.expire(key, timelineTtl);
+            return postIds == null ? List.of() : postIds.stream().map(Long::valueOf).toList();
+        } catch (DataAccessException e) {
+            // Redis 장애 시 DB에서 직접 조회
+            log.warn("Failed to read timeline for user {}: {}", userId, e.getMessage());
+            return findRecentPostIds(userId, beforeId, limit);
+        }
+    }
+    
+    /**
+     * 조회 시점에 합칠 팔로워가 많은 작성자 ID 목록
+     */
+    public List<Long> getCelebrityAuthorIds(Long userId) {
+        return followRepository.findFollowingIdsWithFollowersAtLeast(userId, celebrityThreshold);
+    }
+    
+    /**
+     * 팔로우 관계 변경 시 타임라인 제거 (다음 조회 시 재구성, 커밋 이후 실행)
+     */
+    public void invalidate(Long userId) {
+        Runnable delete = () -> {
+            try {
+                redisTemplate.delete(timelineKey(userId));
+            } catch (DataAccessException e) {
+                log.warn("Failed to invalidate timeline for user {}: {}", userId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete.run();
+            }
+        });
+    }
+    
+    private void fanOut(Long postId, Long authorId) {
+        long startTime = System.currentTimeMillis();
+        int fannedOut = 0;
+        
+        try {
+            Long lastFollowerId = 0L;
+            List<Long> followerIds;
+            do {
+                followerIds = followRepository.findFollowerIdsAfter(authorId, lastFollowerId, PageRequest.of(0, FAN_OUT_CHUNK_SIZE));
+                if (followerIds.isEmpty()) {
+                    break;
+                }
+                
+                List<String> keys = followerIds.stream()
+                        .map(this::timelineKey)
+                        .toList();
+                String member = postId.toString();
+                String maxSize = String.valueOf(timelineSize);
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    keys.forEach(key -> stringConnection.eval(FAN_OUT_SCRIPT, ReturnType.INTEGER, 1, key, member, maxSize));
+                    return null;
+                });
+                
+                lastFollowerId = followerIds.get(followerIds.size() - 1);
+                fannedOut += followerIds.size();
+            } while (followerIds.size() == FAN_OUT_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            // 누락된 타임라인은 만료 후 재구성 시 복구된다
+            log.error("Failed to fan out post {} to followers of user {}: {}", postId, authorId, e.getMessage());
+            return;
+        }
+        
+        log.debug("Fanned out post {} to {} followers in {} ms", postId, fannedOut, System.currentTimeMillis() - startTime);
+    }
+    
+    /**
+     * 팔로우 중인 일반 작성자의 최근 포스트로 타임라인 재구성
+     */
+    private void rebuild(Long userId) {
+        List<Long> postIds = findRecentPostIds(userId, null, timelineSize);
+        
+        Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>();
+        entries.add(ZSetOperations.TypedTuple.of(LOADED_MARKER, 0.0));
+        postIds.forEach(postId -> entries.add(ZSetOperations.TypedTuple.of(postId.toString(), postId.doubleValue())));
+        
+        String key = timelineKey(userId);
+        redisTemplate.opsForZSet().add(key, entries);
+        redisTemplate.expire(key, timelineTtl);
+    }
+    
+    private List<Long> findRecentPostIds(Long userId, Long beforeId, int limit) {
+        List<Long> authorIds = followRepository.findFollowingIdsWithFollowersBelow(userId, celebrityThreshold);
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        return blogPostRepository.findLatestIdsByAuthorIds(
+                authorIds, beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, limit));
+    }
+    
+    private String timelineKey(Long userId) {
+        return TIMELINE_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,144 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 포스트 랭킹 서비스
+ * 조회/좋아요 이벤트마다 Redis Sorted Set의 점수를 시간 감쇠(forward decay) 방식으로 증가시킨다.
+ * 점수는 기준 시각 대비 exp(λ·경과시간)만큼 가중된 값이며, 주기적으로 기준 시각을 옮기면서 전체 점수를 재조정한다.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+    
+    // 두 키를 한 스크립트에서 다루므로 Redis Cluster에서 같은 슬롯에 있도록 해시 태그로 묶음
+    private static final String SCORES_KEY = "blog:{trending}:scores";
+    private static final String EPOCH_KEY = "blog:{trending}:epoch";
+    
+    static final double VIEW_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 5.0;
+    
+    // 재조정 후 이 값보다 작은 점수는 랭킹에서 제외
+    private static final String MIN_SCORE = "0.01";
+    
+    /**
+     * 기준 시각 대비 가중치를 적용해 점수 증가
+     * 좋아요 취소는 좋아요 때보다 큰 가중치로 빠지므로, 0 이하가 되면 음수로 남기지 않고 랭킹에서 제거한다.
+     * ARGV: {가중치, 현재 시각(초), 감쇠율 λ, 포스트 ID}
+     */
+    private static final RedisScript<Void> BOOST_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                epoch = tonumber(ARGV[2])
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            local boost = tonumber(ARGV[1]) * math.exp(tonumber(ARGV[3]) * (tonumber(ARGV[2]) - epoch))
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], boost, ARGV[4]))
+            if score <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[4])
+            end
+            """, Void.class);
+    
+    /**
+     * 기준 시각을 현재로 옮기고 전체 점수를 같은 비율로 축소한 뒤 하위 항목 정리
+     * ARGV: {현재 시각(초), 감쇠율 λ, 최소 점수, 유지할 최대 항목 수}
+     */
+    private static final RedisScript<Void> RESCALE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call('GET', KEYS[2]) or ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                local factor = math.exp(-tonumber(ARGV[2]) * (now - epoch))
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', string.format('%.17g', factor))
+                redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+            end
+            redis.call('SET', KEYS[2], ARGV[1])
+            """, Void.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    private final double decayRate;
+    private final int maxSize;
+    
+    public TrendingService(StringRedisTemplate redisTemplate,
+                           @Value("${blog.trending.half-life:6h}") Duration halfLife,
+                           @Value("${blog.trending.max-size:5000}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.decayRate = Math.log(2) / halfLife.toSeconds();
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * 조회 이벤트 반영
+     */
+    public void recordView(Long postId) {
+        boost(postId, VIEW_WEIGHT);
+    }
+    
+    /**
+     * 좋아요/좋아요 취소 이벤트 반영
+     */
+    public void recordLike(Long postId, boolean liked) {
+        boost(postId, liked ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+    
+    /**
+     * 점수 상위 포스트 ID 조회 (점수 내림차순)
+     */
+    public List<Long> getTopPostIds(int size) {
+        Set<String> postIds = redisTemplate.opsForZSet().reverseRange(SCORES_KEY, 0, size - 1);
+        if (postIds == null) {
+            return List.of();
+        }
+        return postIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+    
+    /**
+     * 삭제된 포스트를 랭킹에서 제거
+     */
+    public void discard(Long postId) {
+        try {
+            redisTemplate.opsForZSet().remove(SCORES_KEY, postId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove post {} from trending: {}", postId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 점수 재조정 (점수가 계속 커지지 않도록 기준 시각 이동)
+     */
+    @Scheduled(fixedDelayString = "${blog.trending.rescale-interval:3600000}")
+    public void rescale() {
+        try {
+            redisTemplate.execute(RESCALE_SCRIPT, List.of(SCORES_KEY, EPOCH_KEY),
+                    String.valueOf(nowSeconds()), String.valueOf(decayRate), MIN_SCORE, String.valueOf(maxSize));
+        } catch (DataAccessException e) {
+            log.warn("Failed to rescale trending scores: {}", e.getMessage());
+        }
+    }
+    
+    private void boost(Long postId, double weight) {
+        try {
+            redisTemplate.execute(BOOST_SCRIPT, List.of(SCORES_KEY, EPOCH_KEY),
+                    String.valueOf(weight), String.valueOf(nowSeconds()), String.valueOf(decayRate), postId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to update trending score for post {}: {}", postId, e.getMessage());
+        }
+    }
+    
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,317 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.blog.repository.BlogPostRepository;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.cache.FlushRecoveryService;
+import com.apple.appleplayground.global.concurrent.LongRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 조회수 집계 서비스
+ * 요청 스레드는 조회 이벤트를 프로세스 내 lock-free 링 버퍼에 넣기만 하고, 단일 소비자 스레드가 포스트별 변화량으로 합쳐
+ * 일정 주기 또는 일정 이벤트 수마다 Redis 해시에 한 번에 누적한다. 누적된 조회수는 주기적으로 DB에 일괄 반영한다.
+ */
+@Service
+@Slf4j
+public class ViewCountService {
+    
+    // RENAME/되돌리기 대상이 Redis Cluster에서 같은 슬롯에 있도록 해시 태그로 묶음
+    private static final String PENDING_KEY = "blog:{view}:pending";
+    private static final String FLUSHING_KEY_PREFIX = "blog:{view}:flushing:";
+    
+    // 파이프라인 한 번에 반영하는 최대 포스트 수
+    private static final int PUBLISH_CHUNK_SIZE = 500;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    // 이보다 오래된 분리 해시는 반영 도중 중단된 것으로 보고 되돌림 (정상 반영은 수 초 안에 끝남)
+    private static final Duration STALE_FLUSH_AGE = Duration.ofMinutes(5);
+    
+    /**
+     * 적재된 포스트 카운터가 있을 때만 조회수를 증가시키는 스크립트
+     * KEYS: {포스트 카운터 키}, ARGV: {변화량}
+     */
+    private static final String INCREMENT_COUNTS_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('HINCRBY', KEYS[1], 'views', tonumber(ARGV[1]))
+            end
+            return 0
+            """;
+    
+    private final StringRedisTemplate redisTemplate;
+    private final BlogPostRepository blogPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionVersionService collectionVersionService;
+    private final FlushRecoveryService flushRecoveryService;
+    
+    private final LongRingBuffer events;
+    private final long publishIntervalNanos;
+    private final int publishBatchEvents;
+    
+    // 버퍼 상태 지표
+    private final LongAdder published = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final AtomicLong publishedToRedis = new AtomicLong();
+    private final AtomicLong publishCount = new AtomicLong();
+    private final AtomicLong fallbackToDatabase = new AtomicLong();
+    
+    private volatile boolean running;
+    private Thread consumer;
+    
+    public ViewCountService(StringRedisTemplate redisTemplate,
+                            BlogPostRepository blogPostRepository,
+                            TransactionTemplate transactionTemplate,
+                            CollectionVersionService collectionVersionService,
+                            FlushRecoveryService flushRecoveryService,
+                            @Value("${blog.view-count.buffer-size:65536}") int bufferSize,
+                            @Value("${blog.view-count.publish-interval:200}") long publishIntervalMillis,
+                            @Value("${blog.view-count.publish-batch-events:10000}") int publishBatchEvents) {
+        this.redisTemplate = redisTemplate;
+        this.blogPostRepository = blogPostRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.collectionVersionService = collectionVersionService;
+        this.flushRecoveryService = flushRecoveryService;
+        this.events = new LongRingBuffer(bufferSize);
+        this.publishIntervalNanos = TimeUnit.MILLISECONDS.toNanos(publishIntervalMillis);
+        this.publishBatchEvents = publishBatchEvents;
+    }
+    
+    @PostConstruct
+    public void start() {
+        running = true;
+        consumer = new Thread(this::consume, "view-event-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+    
+    /**
+     * 종료 시 버퍼에 남은 조회 이벤트를 모두 Redis에 반영
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (consumer.isAlive()) {
+            log.warn("View event consumer did not finish within {} ms, {} events may be lost",
+                    SHUTDOWN_TIMEOUT_MILLIS, events.size());
+        }
+    }
+    
+    /**
+     * 조회수 1 증가 (링 버퍼에 넣고 바로 반환)
+     * 버퍼가 가득 찼거나 종료 중이면 호출 스레드에서 Redis에 직접 반영한다.
+     */
+    public void increment(Long postId) {
+        if (running && events.offer(postId)) {
+            published.increment();
+            return;
+        }
+        overflowed.increment();
+        publish(Map.of(postId, 1L));
+    }
+    
+    /**
+     * DB에 반영되지 않은 조회수 조회 (링 버퍼에서 아직 Redis로 넘어가지 않은 조회는 제외)
+     */
+    public long getPending(Long postId) {
+        try {
+            Object pending = redisTemplate.opsForHash().get(PENDING_KEY, postId.toString());
+            return pending != null ? Long.parseLong(pending.toString()) : 0L;
+        } catch (DataAccessException e) {
+            log.warn("Failed to read pending views for post {}: {}", postId, e.getMessage());
+            return 0L;
+        }
+    }
+    
+    /**
+     * 삭제된 포스트의 미반영 조회수 제거
+     */
+    public void discard(Long postId) {
+        try {
+            redisTemplate.opsForHash().delete(PENDING_KEY, postId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Failed to discard view count for post {}: {}", postId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 조회 이벤트 버퍼 상태
+     */
+    public BufferStats getBufferStats() {
+        return new BufferStats(
+                events.capacity(),
+                events.size(),
+                published.sum(),
+                overflowed.sum(),
+                publishedToRedis.get(),
+                publishCount.get(),
+                fallbackToDatabase.get());
+    }
+    
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     * 누적 해시를 고유 키로 RENAME 하여 분리하므로 반영 중에 들어온 조회수는 다음 주기로 넘어간다.
+     * DB 반영에 실패한 경우에만 분리한 해시를 되돌리고, 반영 후 삭제에 실패한 키는 되돌리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval:5000}")
+    public void flush() {
+        String flushingKey = FLUSHING_KEY_PREFIX + FlushRecoveryService.newFlushId();
+        
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                return;
+            }
+            redisTemplate.rename(PENDING_KEY, flushingKey);
+        } catch (DataAccessException e) {
+            // 다른 노드가 먼저 가져간 경우 등
+            log.debug("Skip view count flush: {}", e.getMessage());
+            return;
+        }
+        
+        Map<Long, Long> deltas = new TreeMap<>();
+        redisTemplate.<String, String>opsForHash().entries(flushingKey)
+                .forEach((postId, delta) -> deltas.put(Long.valueOf(postId), Long.valueOf(delta)));
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> blogPostRepository.addViewCounts(deltas));
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 다음 주기에 다시 시도하도록 누적 해시로 되돌림 (되돌리기도 실패하면 sweep에서 처리)
+            log.error("Failed to flush view counts, restoring {} entries: {}", deltas.size(), e.getMessage());
+            flushRecoveryService.restore(flushingKey, PENDING_KEY, FlushRecoveryService.MergeMode.INCREMENT);
+            return;
+        }
+        
+        flushRecoveryService.discard(List.of(flushingKey));
+        collectionVersionService.bump(deltas.keySet().stream().map(BlogPostService::countersVersion).toArray(String[]::new));
+        log.debug("Flushed view counts for {} posts", deltas.size());
+    }
+    
+    /**
+     * 반영 도중 종료되거나 되돌리기에 실패해 남은 분리 해시를 누적 해시로 되돌림 (시작 시 한 번, 이후 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.sweep-interval:60000}")
+    public void sweepStaleFlushes() {
+        flushRecoveryService.sweep(FLUSHING_KEY_PREFIX, PENDING_KEY, FlushRecoveryService.MergeMode.INCREMENT, STALE_FLUSH_AGE);
+    }
+    
+    /**
+     * 소비자 스레드: 링 버퍼의 조회 이벤트를 포스트별 변화량으로 합쳐 주기적으로 Redis에 반영
+     * 종료 요청 후에도 버퍼가 빌 때까지 계속 꺼내 반영한다.
+     */
+    private void consume() {
+        Map<Long, Long> deltas = new HashMap<>();
+        int pendingEvents = 0;
+        long lastPublish = System.nanoTime();
+        
+        while (running || events.size() > 0) {
+            int drained = events.drain(postId -> deltas.merge(postId, 1L, Long::sum), publishBatchEvents - pendingEvents);
+            pendingEvents += drained;
+            
+            long now = System.nanoTime();
+            boolean due = now - lastPublish >= publishIntervalNanos;
+            if (pendingEvents >= publishBatchEvents || (due && pendingEvents > 0)) {
+                publish(deltas);
+                publishedToRedis.addAndGet(pendingEvents);
+                publishCount.incrementAndGet();
+                deltas.clear();
+                pendingEvents = 0;
+                lastPublish = now;
+            } else if (drained == 0) {
+                if (due) {
+                    lastPublish = now;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        
+        if (!deltas.isEmpty()) {
+            publish(deltas);
+            publishedToRedis.addAndGet(pendingEvents);
+            publishCount.incrementAndGet();
+        }
+        log.info("View event consumer stopped: {}", getBufferStats());
+    }
+    
+    /**
+     * 포스트별 조회수 변화량을 Redis 대기 해시에 누적 (Redis 실패 시 DB에 직접 반영)
+     * 대기 해시와 포스트별 카운터는 Redis Cluster에서 슬롯이 다르므로 키 하나씩 다루는 명령을 파이프라인으로 보낸다.
+     */
+    private void publish(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += PUBLISH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + PUBLISH_CHUNK_SIZE, entries.size()));
+            
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    chunk.forEach(entry -> stringConnection.hIncrBy(PENDING_KEY, entry.getKey().toString(), entry.getValue()));
+                    return null;
+                });
+            } catch (DataAccessException e) {
+                log.warn("Failed to publish view counts to Redis, writing {} posts to database: {}", chunk.size(), e.getMessage());
+                writeToDatabase(chunk);
+                continue;
+            }
+            
+            // 카운터는 짧은 TTL로 다시 적재되므로 실패해도 대기 해시 반영은 되돌리지 않음
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    chunk.forEach(entry -> stringConnection.eval(INCREMENT_COUNTS_SCRIPT, ReturnType.INTEGER, 1,
+                            PostCounterService.countsKey(entry.getKey()), entry.getValue().toString()));
+                    return null;
+                });
+            } catch (DataAccessException e) {
+                log.warn("Failed to update view counters for {} posts: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+    
+    private void writeToDatabase(List<Map.Entry<Long, Long>> chunk) {
+        Map<Long, Long> deltas = new TreeMap<>();
+        chunk.forEach(entry -> deltas.put(entry.getKey(), entry.getValue()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> blogPostRepository.addViewCounts(deltas));
+            fallbackToDatabase.addAndGet(chunk.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to write view counts for {} posts, dropping: {}", chunk.size(), e.getMessage());
+        }
+    }
+    
+    /**
+     * 조회 이벤트 버퍼 상태
+     *
+     * @param capacity 버퍼 크기
+     * @param size 현재 적재 수
+     * @param published 버퍼에 넣은 이벤트 수
+     * @param overflowed 버퍼가 가득 차거나 종료 중이어서 호출 스레드에서 직접 반영한 이벤트 수
+     * @param publishedToRedis 소비자가 합쳐서 반영한 이벤트 수
+     * @param publishCount 소비자가 반영한 횟수
+     * @param fallbackToDatabase Redis 장애로 DB에 직접 반영한 포스트 수
+     */
+    public record BufferStats(int capacity, int size, long published, long overflowed,
+                              long publishedToRedis, long publishCount, long fallbackToDatabase) {
+    }
+}
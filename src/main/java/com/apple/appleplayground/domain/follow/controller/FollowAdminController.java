@@ -0,0 +1,52 @@
+package com.apple.appleplayground.domain.follow.controller;
+
+import com.apple.appleplayground.domain.follow.dto.response.FollowGraphStatsResponse;
+import com.apple.appleplayground.domain.follow.service.FollowGraphService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 팔로우 관리자 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/admin/follow")
+@RequiredArgsConstructor
+@Tag(name = "Follow Admin API", description = "팔로우 관리자 API")
+public class FollowAdminController {
+    
+    private final FollowGraphService followGraphService;
+    
+    @Operation(summary = "팔로우 그래프 상태 조회", description = "메모리 팔로우 그래프의 사용자/관계 수와 추정 메모리 사용량을 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/graph/stats")
+    public ResponseEntity<FollowGraphStatsResponse> getGraphStats() {
+        return ResponseEntity.ok(FollowGraphStatsResponse.from(followGraphService.stats()));
+    }
+    
+    @Operation(summary = "팔로우 그래프 재생성", description = "DB의 전체 팔로우 관계를 스캔하여 메모리 팔로우 그래프를 다시 만듭니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "재생성 성공"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+        @ApiResponse(responseCode = "409", description = "재생성 실패 또는 그래프 비활성화")
+    })
+    @PostMapping("/graph/rebuild")
+    public ResponseEntity<FollowGraphStatsResponse> rebuildGraph() {
+        if (!followGraphService.stats().enabled()) {
+            throw new IllegalStateException("팔로우 그래프가 비활성화되어 있습니다.");
+        }
+        if (followGraphService.rebuild() < 0) {
+            throw new IllegalStateException("팔로우 그래프 재생성에 실패했습니다.");
+        }
+        return ResponseEntity.ok(FollowGraphStatsResponse.from(followGraphService.stats()));
+    }
+}
@@ -3,6 +3,7 @@ package com.apple.appleplayground.domain.follow.controller;
 import com.apple.appleplayground.domain.auth.dto.UserPrincipal;
 import com.apple.appleplayground.domain.follow.dto.response.FollowListResponse;
 import com.apple.appleplayground.domain.follow.dto.response.FollowStatusResponse;
+import com.apple.appleplayground.domain.follow.dto.response.MutualFollowResponse;
 import com.apple.appleplayground.domain.follow.service.FollowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,9 +13,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
 
 /**
  * 팔로우 관련 API 컨트롤러
@@ -25,6 +30,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Follow API", description = "팔로우 관련 API")
 public class FollowController {
     
+    // 팔로우 목록: 짧게 재사용 후 ETag로 재검증
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(10)).cachePrivate();
+    
     private final FollowService followService;
     
     @Operation(summary = "사용자 팔로우", description = "지정된 사용자를 팔로우합니다.")
@@ -74,35 +82,69 @@ public class FollowController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "맞팔로우/공통 팔로잉 조회", description = "지정된 사용자와 서로 팔로우하는지, 대상의 맞팔로우 수, 함께 팔로우하는 사용자를 메모리 팔로우 그래프에서 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 조회 수"),
+        @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 사용자"),
+        @ApiResponse(responseCode = "409", description = "팔로우 그래프 적재 중")
+    })
+    @GetMapping("/mutual/{userId}")
+    public ResponseEntity<MutualFollowResponse> getMutualFollows(
+            @Parameter(description = "대상 사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "반환할 공통 팔로잉 사용자 수 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        
+        MutualFollowResponse response = followService.getMutualFollows(currentUser.getId(), userId, size);
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "팔로워 목록 조회", description = "지정된 사용자의 팔로워 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "팔로워 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 사용자")
     })
     @GetMapping("/followers/{userId}")
     public ResponseEntity<FollowListResponse> getFollowers(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부 (false면 다음 페이지 여부만 반환)") @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
+        
+        String etag = followService.getFollowListETag(userId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         Pageable pageable = PageRequest.of(page, size);
-        FollowListResponse response = followService.getFollowers(userId, pageable);
-        return ResponseEntity.ok(response);
+        FollowListResponse response = followService.getFollowers(userId, pageable, withTotal);
+        return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(response);
     }
     
     @Operation(summary = "팔로잉 목록 조회", description = "지정된 사용자의 팔로잉 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "팔로잉 목록 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 사용자")
     })
     @GetMapping("/following/{userId}")
     public ResponseEntity<FollowListResponse> getFollowing(
             @Parameter(description = "사용자 ID") @PathVariable Long userId,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부 (false면 다음 페이지 여부만 반환)") @RequestParam(defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
+        
+        String etag = followService.getFollowListETag(userId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         Pageable pageable = PageRequest.of(page, size);
-        FollowListResponse response = followService.getFollowing(userId, pageable);
-        return ResponseEntity.ok(response);
+        FollowListResponse response = followService.getFollowing(userId, pageable, withTotal);
+        return ResponseEntity.ok().cacheControl(LIST_CACHE_CONTROL).body(response);
     }
 }
@@ -0,0 +1,7 @@
+package com.apple.appleplayground.domain.follow.dto;
+
+/**
+ * 사용자 ID별 팔로워/팔로잉 수
+ */
+public record FollowCounts(Long userId, Integer followersCount, Integer followingCount) {
+}
@@ -0,0 +1,7 @@
+package com.apple.appleplayground.domain.follow.dto;
+
+/**
+ * 팔로우 관계 (팔로우하는 사용자 ID → 팔로우받는 사용자 ID, 그래프 적재용)
+ */
+public record FollowEdge(Long followerId, Long followingId) {
+}
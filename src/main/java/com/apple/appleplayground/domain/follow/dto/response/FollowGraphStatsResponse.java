@@ -0,0 +1,59 @@
+package com.apple.appleplayground.domain.follow.dto.response;
+
+import com.apple.appleplayground.domain.follow.service.FollowGraphService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 팔로우 그래프 상태 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "팔로우 그래프 상태 응답")
+public class FollowGraphStatsResponse {
+    
+    @Schema(description = "그래프 사용 설정 여부", example = "true")
+    private boolean enabled;
+    
+    @Schema(description = "적재 완료 여부 (false면 팔로우 여부를 DB로 확인)", example = "true")
+    private boolean ready;
+    
+    @Schema(description = "사용자(노드) 수", example = "1000000")
+    private int users;
+    
+    @Schema(description = "팔로우 관계(간선) 수", example = "10000000")
+    private long edges;
+    
+    @Schema(description = "팔로잉/팔로워 비트맵 크기 (바이트)", example = "95000000")
+    private long bitmapBytes;
+    
+    @Schema(description = "사용자 ID ↔ 순번 변환 테이블 크기 (바이트)", example = "41943040")
+    private long indexBytes;
+    
+    @Schema(description = "전체 추정 메모리 (바이트)", example = "136943040")
+    private long totalBytes;
+    
+    @Schema(description = "간선당 바이트", example = "13.7")
+    private double bytesPerEdge;
+    
+    @Schema(description = "마지막 전체 적재 소요 시간 (ms)", example = "8200")
+    private long lastBuildMillis;
+    
+    /**
+     * 그래프 상태로부터 응답 생성
+     */
+    public static FollowGraphStatsResponse from(FollowGraphService.GraphStats stats) {
+        return FollowGraphStatsResponse.builder()
+                .enabled(stats.enabled())
+                .ready(stats.ready())
+                .users(stats.usage().nodes())
+                .edges(stats.usage().edges())
+                .bitmapBytes(stats.usage().bitmapBytes())
+                .indexBytes(stats.usage().indexBytes())
+                .totalBytes(stats.usage().totalBytes())
+                .bytesPerEdge(stats.usage().bytesPerEdge())
+                .lastBuildMillis(stats.lastBuildMillis())
+                .build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.apple.appleplayground.domain.follow.dto.response;
 
+import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.global.dto.ListMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -18,14 +20,17 @@ public class FollowListResponse {
     @Schema(description = "사용자 목록")
     private List<UserInfoResponse> users;
     
+    @Schema(description = "조회 방식 (APPROXIMATE_PAGE: 사용자 팔로우 카운터를 전체 개수로 사용, SLICE: 전체 개수 없음)", example = "APPROXIMATE_PAGE")
+    private ListMode mode;
+    
     @Schema(description = "현재 페이지", example = "0")
     private int currentPage;
     
-    @Schema(description = "전체 페이지 수", example = "5")
-    private int totalPages;
+    @Schema(description = "전체 페이지 수 (SLICE 조회 시 생략)", example = "5")
+    private Integer totalPages;
     
-    @Schema(description = "전체 요소 수", example = "50")
-    private long totalElements;
+    @Schema(description = "전체 요소 수 (SLICE 조회 시 생략)", example = "50")
+    private Long totalElements;
     
     @Schema(description = "페이지 크기", example = "10")
     private int size;
@@ -34,20 +39,28 @@ public class FollowListResponse {
     private boolean isLast;
     
     /**
-     * Page<User>로부터 FollowListResponse 생성
+     * Slice<User>로부터 FollowListResponse 생성 (COUNT 없이 다음 페이지 여부 판단)
+     *
+     * @param approximateTotal 근사 전체 개수 (null이면 전체 개수 생략)
      */
-    public static FollowListResponse from(Page<com.apple.appleplayground.domain.auth.entity.User> userPage) {
-        List<UserInfoResponse> users = userPage.getContent().stream()
+    public static FollowListResponse from(Slice<User> userSlice, Long approximateTotal) {
+        List<UserInfoResponse> users = userSlice.getContent().stream()
                 .map(UserInfoResponse::from)
                 .toList();
         
-        return FollowListResponse.builder()
+        FollowListResponseBuilder builder = FollowListResponse.builder()
                 .users(users)
-                .currentPage(userPage.getNumber())
-                .totalPages(userPage.getTotalPages())
-                .totalElements(userPage.getTotalElements())
-                .size(userPage.getSize())
-                .isLast(userPage.isLast())
-                .build();
+                .mode(approximateTotal != null ? ListMode.APPROXIMATE_PAGE : ListMode.SLICE)
+                .currentPage(userSlice.getNumber())
+                .size(userSlice.getSize())
+                .isLast(userSlice.isLast());
+        if (approximateTotal != null) {
+            // 카운터가 실제 조회 결과와 모순되지 않도록 보정
+            long total = Math.max(approximateTotal,
+                    (long) userSlice.getNumber() * userSlice.getSize() + users.size() + (userSlice.hasNext() ? 1 : 0));
+            builder.totalElements(total)
+                    .totalPages(userSlice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / userSlice.getSize()));
+        }
+        return builder.build();
     }
 }
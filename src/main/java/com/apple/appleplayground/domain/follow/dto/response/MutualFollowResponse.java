@@ -0,0 +1,34 @@
+package com.apple.appleplayground.domain.follow.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 맞팔로우/공통 팔로잉 응답 DTO
+ */
+@Getter
+@Builder
+@Schema(description = "맞팔로우/공통 팔로잉 응답")
+public class MutualFollowResponse {
+    
+    @Schema(description = "대상 사용자 ID", example = "1")
+    private Long userId;
+    
+    @Schema(description = "현재 사용자가 대상을 팔로우하는지 여부", example = "true")
+    private boolean following;
+    
+    @Schema(description = "대상이 현재 사용자를 팔로우하는지 여부", example = "true")
+    private boolean followedBy;
+    
+    @Schema(description = "대상과 서로 팔로우하는 사용자 수", example = "42")
+    private long mutualFollowCount;
+    
+    @Schema(description = "현재 사용자와 대상이 함께 팔로우하는 사용자 수", example = "12")
+    private long commonFollowingCount;
+    
+    @Schema(description = "현재 사용자와 대상이 함께 팔로우하는 사용자 (일부)")
+    private List<UserInfoResponse> commonFollowing;
+}
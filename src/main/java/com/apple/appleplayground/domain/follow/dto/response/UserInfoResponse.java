@@ -4,6 +4,7 @@ import com.apple.appleplayground.domain.auth.entity.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
  * 사용자 정보 응답 DTO (팔로우 관련)
  */
 @Getter
+@Jacksonized
 @Builder
 @Schema(description = "사용자 정보 응답")
 public class UserInfoResponse {
@@ -48,6 +50,12 @@ public class UserInfoResponse {
     @Schema(description = "팔로잉 수", example = "75")
     private Integer followingCount;
     
+    @Schema(description = "작성한 포스트 수", example = "42")
+    private Integer postsCount;
+    
+    @Schema(description = "업로드한 이미지 수", example = "12")
+    private Integer imagesCount;
+    
     @Schema(description = "가입일시", example = "2024-01-01T00:00:00")
     private LocalDateTime createdAt;
     
@@ -67,6 +75,8 @@ public class UserInfoResponse {
                 .blog(user.getBlog())
                 .followersCount(user.getFollowersCount())
                 .followingCount(user.getFollowingCount())
+                .postsCount(user.getPostsCount())
+                .imagesCount(user.getImagesCount())
                 .createdAt(user.getCreatedAt())
                 .build();
     }
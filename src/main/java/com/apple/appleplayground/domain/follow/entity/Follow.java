@@ -1,6 +1,7 @@
 package com.apple.appleplayground.domain.follow.entity;
 
 import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.global.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +36,7 @@ import java.time.LocalDateTime;
 public class Follow {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
     /**
@@ -0,0 +1,61 @@
+package com.apple.appleplayground.domain.follow.entity;
+
+import com.apple.appleplayground.global.id.TsidId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 반영 대기 중인 팔로워/팔로잉 수 변화량
+ * 팔로우/언팔로우마다 행을 하나 추가(INSERT)만 하므로 인기 사용자를 동시에 팔로우해도 같은 행을 두고 잠금 경쟁이 없다.
+ * 쌓인 변화량은 주기적으로 사용자별로 합쳐 users 테이블의 캐시 컬럼에 한 번에 반영하고 삭제한다.
+ */
+@Entity
+@Table(
+    name = "follow_count_deltas",
+    indexes = {
+        @Index(name = "idx_follow_count_deltas_follower_id", columnList = "follower_id"),
+        @Index(name = "idx_follow_count_deltas_following_id", columnList = "following_id")
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowCountDelta {
+    
+    @Id
+    @TsidId
+    private Long id;
+    
+    /**
+     * 팔로잉 수가 바뀌는 사용자
+     */
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
+    
+    /**
+     * 팔로워 수가 바뀌는 사용자
+     */
+    @Column(name = "following_id", nullable = false)
+    private Long followingId;
+    
+    /**
+     * 변화량 (팔로우 +1, 언팔로우 -1)
+     */
+    @Column(nullable = false)
+    private Integer delta;
+    
+    /**
+     * 변화량 생성
+     */
+    public static FollowCountDelta of(Long followerId, Long followingId, int delta) {
+        return FollowCountDelta.builder()
+                .followerId(followerId)
+                .followingId(followingId)
+                .delta(delta)
+                .build();
+    }
+}
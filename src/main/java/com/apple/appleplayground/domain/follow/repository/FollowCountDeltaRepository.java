@@ -0,0 +1,47 @@
+package com.apple.appleplayground.domain.follow.repository;
+
+import com.apple.appleplayground.domain.follow.dto.FollowCounts;
+import com.apple.appleplayground.domain.follow.entity.FollowCountDelta;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 팔로워/팔로잉 수 변화량 Repository
+ */
+@Repository
+public interface FollowCountDeltaRepository extends JpaRepository<FollowCountDelta, Long> {
+    
+    /**
+     * 여러 사용자의 팔로워/팔로잉 수 조회 (users 캐시 컬럼 + 아직 반영되지 않은 변화량, IN 절 한 번)
+     */
+    @Query("""
+            SELECT new com.apple.appleplayground.domain.follow.dto.FollowCounts(u.id,
+                CAST(COALESCE(u.followersCount, 0)
+                    + COALESCE((SELECT SUM(d.delta) FROM FollowCountDelta d WHERE d.followingId = u.id), 0) AS Integer),
+                CAST(COALESCE(u.followingCount, 0)
+                    + COALESCE((SELECT SUM(d.delta) FROM FollowCountDelta d WHERE d.followerId = u.id), 0) AS Integer))
+            FROM User u WHERE u.id IN :ids
+            """)
+    List<FollowCounts> findFollowCountsByUserIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 오래된 변화량부터 잠그고 조회 (반영 중 다른 노드가 같은 행을 중복 반영하지 않도록)
+     * 다른 노드가 잠근 행은 기다리지 않고 건너뛴다(SKIP LOCKED). READ COMMITTED 트랜잭션에서 호출해야 갭 잠금 없이
+     * 읽은 행만 잠그므로 반영 중에도 새 변화량 INSERT가 막히지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))  // -2: SKIP LOCKED
+    @Query("SELECT d FROM FollowCountDelta d ORDER BY d.id")
+    List<FollowCountDelta> findOldestForUpdate(Pageable pageable);
+}
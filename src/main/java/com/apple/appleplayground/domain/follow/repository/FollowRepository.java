@@ -1,15 +1,22 @@
 package com.apple.appleplayground.domain.follow.repository;
 
 import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.domain.follow.dto.FollowEdge;
 import com.apple.appleplayground.domain.follow.entity.Follow;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 팔로우 관계 Repository
@@ -22,22 +29,57 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      */
     boolean existsByFollowerAndFollowing(User follower, User following);
     
+    /**
+     * 팔로우 관계 존재 확인 (사용자 ID로, 사용자 조회 없음)
+     */
+    boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
+    
     /**
      * 팔로우 관계 조회
      */
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
     
     /**
-     * 특정 사용자의 팔로워 목록 조회 (페이징)
+     * 특정 사용자의 팔로워 목록 조회 (페이징, 최근 팔로우순, COUNT 없이 size + 1개 조회)
+     * 사용자 행을 조인으로 함께 조회하므로 목록 크기와 무관하게 쿼리 수가 일정하다.
+     */
+    @Query("SELECT u FROM Follow f JOIN f.follower u WHERE f.following.id = :userId ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<User> findFollowersByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * 특정 사용자의 팔로잉 목록 조회 (페이징, 최근 팔로우순)
+     */
+    @Query("SELECT u FROM Follow f JOIN f.following u WHERE f.follower.id = :userId ORDER BY f.createdAt DESC, f.id DESC")
+    Slice<User> findFollowingByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    /**
+     * 특정 사용자의 팔로워 ID 목록 조회 (ID 순, 타임라인 전파용)
+     */
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :userId AND f.follower.id > :afterId ORDER BY f.follower.id")
+    List<Long> findFollowerIdsAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * 특정 사용자가 팔로우하는 사용자 중 팔로워 수가 기준 미만인 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM Follow f JOIN f.following u WHERE f.follower.id = :userId AND COALESCE(u.followersCount, 0) < :threshold")
+    List<Long> findFollowingIdsWithFollowersBelow(@Param("userId") Long userId, @Param("threshold") int threshold);
+    
+    /**
+     * 특정 사용자가 팔로우하는 사용자 중 팔로워 수가 기준 이상인 사용자 ID 목록
      */
-    @Query("SELECT f.follower FROM Follow f WHERE f.following = :user")
-    Page<User> findFollowersByUser(@Param("user") User user, Pageable pageable);
+    @Query("SELECT u.id FROM Follow f JOIN f.following u WHERE f.follower.id = :userId AND COALESCE(u.followersCount, 0) >= :threshold")
+    List<Long> findFollowingIdsWithFollowersAtLeast(@Param("userId") Long userId, @Param("threshold") int threshold);
     
     /**
-     * 특정 사용자의 팔로잉 목록 조회 (페이징)
+     * 전체 팔로우 관계 스트리밍 조회 (그래프 적재용, 트랜잭션 안에서 사용)
+     * MySQL 드라이버가 결과를 한 번에 적재하지 않고 행 단위로 읽도록 fetch size를 Integer.MIN_VALUE로 지정
      */
-    @Query("SELECT f.following FROM Follow f WHERE f.follower = :user")
-    Page<User> findFollowingByUser(@Param("user") User user, Pageable pageable);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.apple.appleplayground.domain.follow.dto.FollowEdge(f.follower.id, f.following.id) FROM Follow f")
+    Stream<FollowEdge> streamAllEdges();
     
     /**
      * 팔로워 수 조회
@@ -50,7 +92,9 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     long countByFollower(User follower);
     
     /**
-     * 팔로우 관계 삭제
+     * 팔로우 관계 삭제 (삭제된 행 수 반환, 관계가 없으면 0)
      */
-    void deleteByFollowerAndFollowing(User follower, User following);
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 }
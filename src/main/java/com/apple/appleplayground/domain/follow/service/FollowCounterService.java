@@ -0,0 +1,120 @@
+package com.apple.appleplayground.domain.follow.service;
+
+import com.apple.appleplayground.domain.auth.repository.UserRepository;
+import com.apple.appleplayground.domain.follow.dto.FollowCounts;
+import com.apple.appleplayground.domain.follow.entity.FollowCountDelta;
+import com.apple.appleplayground.domain.follow.repository.FollowCountDeltaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로워/팔로잉 수 카운터 서비스
+ * 팔로우/언팔로우는 users 행을 갱신하지 않고 좁은 변화량 테이블에 INSERT만 하므로 인기 사용자의 행 잠금 경쟁이 없다.
+ * 조회는 users 캐시 컬럼과 아직 반영되지 않은 변화량을 합쳐 답하고, 변화량은 주기적으로 사용자별로 합쳐 users에 반영한다.
+ */
+@Service
+@Slf4j
+public class FollowCounterService {
+    
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    
+    private final FollowCountDeltaRepository followCountDeltaRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate flushTransaction;
+    
+    public FollowCounterService(FollowCountDeltaRepository followCountDeltaRepository,
+                                UserRepository userRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.followCountDeltaRepository = followCountDeltaRepository;
+        this.userRepository = userRepository;
+        // 반영 트랜잭션은 READ COMMITTED (REPEATABLE READ의 잠금 읽기는 갭 잠금으로 동시 INSERT를 막음)
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+    
+    /**
+     * 팔로우 반영 (호출한 트랜잭션에 참여하므로 팔로우 관계와 함께 커밋됨)
+     */
+    public void increment(Long followerId, Long followingId) {
+        followCountDeltaRepository.save(FollowCountDelta.of(followerId, followingId, 1));
+    }
+    
+    /**
+     * 언팔로우 반영 (호출한 트랜잭션에 참여하므로 팔로우 관계 삭제와 함께 커밋됨)
+     */
+    public void decrement(Long followerId, Long followingId) {
+        followCountDeltaRepository.save(FollowCountDelta.of(followerId, followingId, -1));
+    }
+    
+    /**
+     * 여러 사용자의 팔로워/팔로잉 수 조회 (반영 대기 중인 변화량 포함)
+     */
+    public Map<Long, FollowCounts> getCounts(Collection<Long> userIds) {
+        return followCountDeltaRepository.findFollowCountsByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(FollowCounts::userId, Function.identity()));
+    }
+    
+    /**
+     * 쌓인 변화량을 사용자별로 합쳐 users 캐시 컬럼에 반영
+     * 청크마다 짧은 트랜잭션에서 변화량 행을 잠그고 반영한 뒤 삭제하므로, 반영 중 들어온 변화량은 다음 청크나 다음 주기로 넘어간다.
+     * 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 동시에 반영해도 서로 기다리거나 중복 반영하지 않는다.
+     *
+     * @return 반영한 변화량 수
+     */
+    @Scheduled(fixedDelayString = "${follow.counter.flush-interval:5000}")
+    public long flush() {
+        long startTime = System.currentTimeMillis();
+        long flushed = 0;
+        
+        Integer chunk;
+        do {
+            chunk = flushTransaction.execute(status -> flushChunk());
+            flushed += chunk != null ? chunk : 0;
+        } while (chunk != null && chunk == FLUSH_CHUNK_SIZE);
+        
+        if (flushed > 0) {
+            log.debug("Flushed {} follow count deltas in {} ms", flushed, System.currentTimeMillis() - startTime);
+        }
+        return flushed;
+    }
+    
+    private int flushChunk() {
+        List<FollowCountDelta> deltas = followCountDeltaRepository.findOldestForUpdate(PageRequest.of(0, FLUSH_CHUNK_SIZE));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        
+        // 사용자 ID 순으로 갱신해 동시에 반영하는 노드끼리 교착되지 않도록
+        Map<Long, Integer> followersDeltas = new TreeMap<>();
+        Map<Long, Integer> followingDeltas = new TreeMap<>();
+        for (FollowCountDelta delta : deltas) {
+            followersDeltas.merge(delta.getFollowingId(), delta.getDelta(), Integer::sum);
+            followingDeltas.merge(delta.getFollowerId(), delta.getDelta(), Integer::sum);
+        }
+        
+        followersDeltas.forEach((userId, delta) -> {
+            if (delta != 0) {
+                userRepository.addFollowersCount(userId, delta);
+            }
+        });
+        followingDeltas.forEach((userId, delta) -> {
+            if (delta != 0) {
+                userRepository.addFollowingCount(userId, delta);
+            }
+        });
+        followCountDeltaRepository.deleteAllInBatch(deltas);
+        return deltas.size();
+    }
+}
@@ -0,0 +1,263 @@
+package com.apple.appleplayground.domain.follow.service;
+
+import com.apple.appleplayground.domain.follow.dto.FollowEdge;
+import com.apple.appleplayground.domain.follow.repository.FollowRepository;
+import com.apple.appleplayground.global.index.BitmapGraph;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 팔로우 그래프 서비스
+ * 사용자별 팔로잉/팔로워 목록을 압축 비트맵(BitmapGraph)으로 보관해 팔로우 여부와 맞팔로우/공통 팔로잉을 DB 없이 계산한다.
+ * 시작 시 팔로우 테이블을 스트리밍으로 한 번 훑어 적재하고, 팔로우/언팔로우는 커밋 후 Redis pub/sub으로 모든 노드에 반영한다.
+ * 놓친 변경은 주기적인 재생성으로 맞춘다. 적재가 끝나기 전에는 isReady()가 false이며 호출하는 쪽이 DB로 확인한다.
+ */
+@Service
+@Slf4j
+public class FollowGraphService {
+    
+    private static final String EDGE_CHANNEL = "follow:graph:edge";
+    
+    private final FollowRepository followRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    
+    private final Object writeLock = new Object();
+    
+    private volatile BitmapGraph graph = new BitmapGraph();
+    private volatile boolean ready;
+    private volatile long lastBuildMillis;
+    
+    // 재생성 중 들어온 변경 (재생성이 끝나면 새 그래프에 다시 적용), writeLock으로 보호
+    private List<Consumer<BitmapGraph>> pendingWrites;
+    
+    public FollowGraphService(FollowRepository followRepository,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${follow.graph.enabled:true}") boolean enabled) {
+        this.followRepository = followRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+    
+    @PostConstruct
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onEdgeChanged(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EDGE_CHANNEL));
+    }
+    
+    /**
+     * 애플리케이션 시작 후 그래프 적재
+     */
+    @Async("asyncExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+    
+    /**
+     * 주기적 그래프 재생성 (놓친 변경 보정, 지워진 사용자의 순번 회수)
+     */
+    @Scheduled(fixedDelayString = "${follow.graph.rebuild-interval:21600000}",
+               initialDelayString = "${follow.graph.rebuild-interval:21600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+    
+    /**
+     * 그래프 사용 가능 여부 (비활성화되었거나 첫 적재 전이면 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * followerId가 followingId를 팔로우하는지 확인
+     */
+    public boolean isFollowing(Long followerId, Long followingId) {
+        return graph.hasEdge(followerId, followingId);
+    }
+    
+    /**
+     * 서로 팔로우하는 사용자 수
+     */
+    public long countMutualFollows(Long userId) {
+        return graph.countMutual(userId);
+    }
+    
+    /**
+     * 두 사용자가 함께 팔로우하는 사용자 수
+     */
+    public long countCommonFollowing(Long userId, Long otherUserId) {
+        return graph.countCommonOutgoing(userId, otherUserId);
+    }
+    
+    /**
+     * 두 사용자가 함께 팔로우하는 사용자 ID (최대 limit명)
+     */
+    public List<Long> findCommonFollowing(Long userId, Long otherUserId, int limit) {
+        return Arrays.stream(graph.commonOutgoing(userId, otherUserId, limit)).boxed().toList();
+    }
+    
+    /**
+     * 팔로우 반영 (커밋 이후 모든 노드에 전파)
+     */
+    public void follow(Long followerId, Long followingId) {
+        afterCommit("+" + followerId + ":" + followingId);
+    }
+    
+    /**
+     * 언팔로우 반영 (커밋 이후 모든 노드에 전파)
+     */
+    public void unfollow(Long followerId, Long followingId) {
+        afterCommit("-" + followerId + ":" + followingId);
+    }
+    
+    /**
+     * 그래프 상태 (노드/간선 수, 추정 메모리 사용량)
+     */
+    public GraphStats stats() {
+        return new GraphStats(enabled, ready, lastBuildMillis, graph.memoryUsage());
+    }
+    
+    /**
+     * DB 전체 스캔으로 그래프 재생성
+     * 새 그래프는 별도로 만든 뒤 교체하므로 재생성 중에도 기존 그래프로 응답한다.
+     *
+     * @return 적재한 팔로우 관계 수 (실패 시 -1)
+     */
+    public synchronized long rebuild() {
+        long startTime = System.currentTimeMillis();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        
+        try {
+            BitmapGraph fresh = new BitmapGraph();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<FollowEdge> edges = followRepository.streamAllEdges()) {
+                    edges.forEach(edge -> fresh.addEdge(edge.followerId(), edge.followingId()));
+                }
+            });
+            fresh.optimize();
+            long loaded = fresh.edgeCount();
+            
+            synchronized (writeLock) {
+                pendingWrites.forEach(write -> write.accept(fresh));
+                graph = fresh;
+                ready = true;
+            }
+            
+            lastBuildMillis = System.currentTimeMillis() - startTime;
+            BitmapGraph.MemoryUsage usage = fresh.memoryUsage();
+            log.info("Follow graph rebuilt: {} edges, {} users, {} KB in {} ms",
+                    loaded, usage.nodes(), usage.totalBytes() / 1024, lastBuildMillis);
+            return loaded;
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild follow graph: {}", e.getMessage());
+            return -1;
+        } finally {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+        }
+    }
+    
+    private void afterCommit(String change) {
+        if (!enabled) {
+            return;
+        }
+        Runnable publish = () -> {
+            onEdgeChanged(change);
+            try {
+                redisTemplate.convertAndSend(EDGE_CHANNEL, change);
+            } catch (DataAccessException e) {
+                // 다른 노드는 다음 재생성 때 반영된다
+                log.warn("Failed to publish follow graph change {}: {}", change, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+    
+    /**
+     * 간선 변경 적용 ("+팔로워:대상" 또는 "-팔로워:대상", 같은 변경을 여러 번 받아도 결과가 같음)
+     */
+    private void onEdgeChanged(String change) {
+        try {
+            boolean add = change.charAt(0) == '+';
+            int separator = change.indexOf(':');
+            long followerId = Long.parseLong(change.substring(1, separator));
+            long followingId = Long.parseLong(change.substring(separator + 1));
+            apply(target -> {
+                if (add) {
+                    target.addEdge(followerId, followingId);
+                } else {
+                    target.removeEdge(followerId, followingId);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Ignoring invalid follow graph message: {}", change);
+        }
+    }
+    
+    private void apply(Consumer<BitmapGraph> write) {
+        synchronized (writeLock) {
+            write.accept(graph);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        }
+    }
+    
+    /**
+     * 그래프 상태
+     *
+     * @param lastBuildMillis 마지막 전체 적재 소요 시간
+     */
+    public record GraphStats(boolean enabled, boolean ready, long lastBuildMillis, BitmapGraph.MemoryUsage usage) {
+    }
+}
@@ -2,17 +2,29 @@ package com.apple.appleplayground.domain.follow.service;
 
 import com.apple.appleplayground.domain.auth.entity.User;
 import com.apple.appleplayground.domain.auth.repository.UserRepository;
+import com.apple.appleplayground.domain.blog.service.TimelineService;
+import com.apple.appleplayground.domain.follow.dto.FollowCounts;
 import com.apple.appleplayground.domain.follow.dto.response.FollowListResponse;
 import com.apple.appleplayground.domain.follow.dto.response.FollowStatusResponse;
+import com.apple.appleplayground.domain.follow.dto.response.MutualFollowResponse;
+import com.apple.appleplayground.domain.follow.dto.response.UserInfoResponse;
 import com.apple.appleplayground.domain.follow.entity.Follow;
 import com.apple.appleplayground.domain.follow.repository.FollowRepository;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 팔로우 관련 비즈니스 로직을 처리하는 서비스
  */
@@ -22,8 +34,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class FollowService {
     
+    private static final int MAX_COMMON_FOLLOWING_SIZE = 50;
+    
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final FollowGraphService followGraphService;
+    private final FollowCounterService followCounterService;
+    private final TimelineService timelineService;
+    private final CollectionVersionService collectionVersionService;
     
     /**
      * 사용자 팔로우
@@ -35,32 +53,33 @@ public class FollowService {
             throw new IllegalArgumentException("자기 자신을 팔로우할 수 없습니다.");
         }
         
-        User currentUser = findUserById(currentUserId);
-        User targetUser = findUserById(targetUserId);
-        
-        // 이미 팔로우한 경우 예외 처리
-        if (followRepository.existsByFollowerAndFollowing(currentUser, targetUser)) {
+        // 이미 팔로우한 경우 예외 처리 (메모리 그래프는 다른 노드의 변경이 늦게 반영될 수 있으므로 쓰기 경로는 DB로 확인)
+        if (followRepository.existsByFollowerIdAndFollowingId(currentUserId, targetUserId)) {
             throw new IllegalStateException("이미 팔로우한 사용자입니다.");
         }
         
-        // 팔로우 관계 생성
-        Follow follow = Follow.create(currentUser, targetUser);
-        followRepository.save(follow);
+        if (!userRepository.existsById(targetUserId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다. ID: " + targetUserId);
+        }
+        
+        // 팔로우 관계 생성 (사용자는 조회 없이 참조만 연결, 동시 요청으로 확인 이후 생긴 중복은 유니크 제약으로 거름)
+        Follow follow = Follow.create(userRepository.getReferenceById(currentUserId), userRepository.getReferenceById(targetUserId));
+        try {
+            followRepository.saveAndFlush(follow);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 팔로우한 사용자입니다.");
+        }
         
-        // 캐시 카운트 업데이트
-        currentUser.incrementFollowingCount();
-        targetUser.incrementFollowersCount();
+        // 팔로워/팔로잉 수는 변화량만 기록 (users 행을 잠그지 않음, 주기적으로 합쳐 반영)
+        followCounterService.increment(currentUserId, targetUserId);
         
-        userRepository.save(currentUser);
-        userRepository.save(targetUser);
+        followGraphService.follow(currentUserId, targetUserId);
+        timelineService.invalidate(currentUserId);
+        collectionVersionService.bump(followVersion(currentUserId), followVersion(targetUserId));
         
         log.info("User {} followed user {}", currentUserId, targetUserId);
         
-        return FollowStatusResponse.of(
-            true, 
-            targetUser.getFollowersCount(), 
-            currentUser.getFollowingCount()
-        );
+        return statusOf(true, currentUserId, targetUserId);
     }
     
     /**
@@ -68,72 +87,137 @@ public class FollowService {
      */
     @Transactional
     public FollowStatusResponse unfollowUser(Long currentUserId, Long targetUserId) {
-        User currentUser = findUserById(currentUserId);
-        User targetUser = findUserById(targetUserId);
-        
-        // 팔로우 관계가 없는 경우 예외 처리
-        if (!followRepository.existsByFollowerAndFollowing(currentUser, targetUser)) {
+        // 팔로우 관계 삭제 (관계가 없으면 삭제된 행이 없음)
+        if (followRepository.deleteByFollowerIdAndFollowingId(currentUserId, targetUserId) == 0) {
             throw new IllegalStateException("팔로우하지 않은 사용자입니다.");
         }
         
-        // 팔로우 관계 삭제
-        followRepository.deleteByFollowerAndFollowing(currentUser, targetUser);
-        
-        // 캐시 카운트 업데이트
-        currentUser.decrementFollowingCount();
-        targetUser.decrementFollowersCount();
+        // 팔로워/팔로잉 수는 변화량만 기록 (users 행을 잠그지 않음, 주기적으로 합쳐 반영)
+        followCounterService.decrement(currentUserId, targetUserId);
         
-        userRepository.save(currentUser);
-        userRepository.save(targetUser);
+        followGraphService.unfollow(currentUserId, targetUserId);
+        timelineService.invalidate(currentUserId);
+        collectionVersionService.bump(followVersion(currentUserId), followVersion(targetUserId));
         
         log.info("User {} unfollowed user {}", currentUserId, targetUserId);
         
-        return FollowStatusResponse.of(
-            false, 
-            targetUser.getFollowersCount(), 
-            currentUser.getFollowingCount()
-        );
+        return statusOf(false, currentUserId, targetUserId);
     }
     
     /**
      * 팔로우 상태 확인
      */
     public FollowStatusResponse getFollowStatus(Long currentUserId, Long targetUserId) {
-        User currentUser = findUserById(currentUserId);
-        User targetUser = findUserById(targetUserId);
-        
-        boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, targetUser);
+        FollowCounts target = findCountsById(targetUserId);
         
         return FollowStatusResponse.of(
-            isFollowing, 
-            targetUser.getFollowersCount(), 
-            targetUser.getFollowingCount()
+            isFollowing(currentUserId, targetUserId), 
+            target.followersCount(), 
+            target.followingCount()
         );
     }
     
+    /**
+     * 대상 사용자와의 맞팔로우 여부와 공통 팔로잉 조회 (메모리 팔로우 그래프 사용)
+     */
+    public MutualFollowResponse getMutualFollows(Long currentUserId, Long targetUserId, int size) {
+        if (size < 1 || size > MAX_COMMON_FOLLOWING_SIZE) {
+            throw new IllegalArgumentException("조회할 사용자 수는 1~" + MAX_COMMON_FOLLOWING_SIZE + " 사이여야 합니다.");
+        }
+        if (!followGraphService.isReady()) {
+            throw new IllegalStateException("팔로우 정보를 불러오는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!userRepository.existsById(targetUserId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다. ID: " + targetUserId);
+        }
+        
+        List<Long> commonIds = followGraphService.findCommonFollowing(currentUserId, targetUserId, size);
+        Map<Long, User> usersById = userRepository.findAllById(commonIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<UserInfoResponse> commonFollowing = commonIds.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(UserInfoResponse::from)
+                .toList();
+        
+        return MutualFollowResponse.builder()
+                .userId(targetUserId)
+                .following(followGraphService.isFollowing(currentUserId, targetUserId))
+                .followedBy(followGraphService.isFollowing(targetUserId, currentUserId))
+                .mutualFollowCount(followGraphService.countMutualFollows(targetUserId))
+                .commonFollowingCount(followGraphService.countCommonFollowing(currentUserId, targetUserId))
+                .commonFollowing(commonFollowing)
+                .build();
+    }
+    
     /**
      * 팔로워 목록 조회
+     * COUNT 없이 size + 1개를 조회하고, withTotal이면 사용자의 팔로워 수 카운터를 전체 개수로 사용
      */
-    public FollowListResponse getFollowers(Long userId, Pageable pageable) {
-        User user = findUserById(userId);
-        Page<User> followers = followRepository.findFollowersByUser(user, pageable);
-        return FollowListResponse.from(followers);
+    public FollowListResponse getFollowers(Long userId, Pageable pageable, boolean withTotal) {
+        FollowCounts counts = findCountsById(userId);
+        Slice<User> followers = followRepository.findFollowersByUserId(userId, pageable);
+        return FollowListResponse.from(followers, withTotal ? countOf(counts.followersCount()) : null);
     }
     
     /**
      * 팔로잉 목록 조회
+     * COUNT 없이 size + 1개를 조회하고, withTotal이면 사용자의 팔로잉 수 카운터를 전체 개수로 사용
+     */
+    public FollowListResponse getFollowing(Long userId, Pageable pageable, boolean withTotal) {
+        FollowCounts counts = findCountsById(userId);
+        Slice<User> following = followRepository.findFollowingByUserId(userId, pageable);
+        return FollowListResponse.from(following, withTotal ? countOf(counts.followingCount()) : null);
+    }
+    
+    /**
+     * 팔로워/팔로잉 목록 ETag (해당 사용자의 팔로우 관계가 바뀔 때 변경)
      */
-    public FollowListResponse getFollowing(Long userId, Pageable pageable) {
-        User user = findUserById(userId);
-        Page<User> following = followRepository.findFollowingByUser(user, pageable);
-        return FollowListResponse.from(following);
+    public String getFollowListETag(Long userId) {
+        return collectionVersionService.etag(followVersion(userId));
     }
     
     /**
-     * 사용자 ID로 User 엔티티 조회
+     * 팔로우 처리 후 상태 응답 (대상의 팔로워 수와 현재 사용자의 팔로잉 수를 한 번에 조회)
      */
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. ID: " + userId));
+    private FollowStatusResponse statusOf(boolean isFollowing, Long currentUserId, Long targetUserId) {
+        Map<Long, FollowCounts> counts = followCounterService.getCounts(List.of(currentUserId, targetUserId));
+        FollowCounts current = counts.get(currentUserId);
+        FollowCounts target = counts.get(targetUserId);
+        
+        return FollowStatusResponse.of(
+            isFollowing, 
+            target != null ? target.followersCount() : null, 
+            current != null ? current.followingCount() : null
+        );
+    }
+    
+    /**
+     * 팔로우 여부 확인 (조회 전용, 그래프 적재 전이면 DB로 확인)
+     */
+    private boolean isFollowing(Long followerId, Long followingId) {
+        if (followGraphService.isReady()) {
+            return followGraphService.isFollowing(followerId, followingId);
+        }
+        return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+    }
+    
+    private static Long countOf(Integer counter) {
+        return counter != null ? counter.longValue() : 0L;
+    }
+    
+    private static String followVersion(Long userId) {
+        return "follow:" + userId;
+    }
+    
+    /**
+     * 사용자 ID로 팔로워/팔로잉 수 조회 (반영 대기 중인 변화량 포함)
+     */
+    private FollowCounts findCountsById(Long userId) {
+        FollowCounts counts = followCounterService.getCounts(List.of(userId)).get(userId);
+        if (counts == null) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다. ID: " + userId);
+        }
+        return counts;
     }
 }
@@ -1,6 +1,7 @@
 package com.apple.appleplayground.domain.image.entity;
 
 import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.global.id.TsidId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +31,7 @@ import java.time.LocalDateTime;
 public class Image {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
     
     @Column(nullable = false)
@@ -68,9 +69,9 @@ public class Image {
     }
     
     /**
-     * 업로더 확인
+     * 업로더 확인 (업로더 ID만 비교하므로 지연 로딩된 업로더를 초기화하지 않음)
      */
-    public boolean isUploadedBy(User user) {
-        return this.uploadedBy != null && this.uploadedBy.getId().equals(user.getId());
+    public boolean isUploadedBy(Long userId) {
+        return this.uploadedBy != null && this.uploadedBy.getId().equals(userId);
     }
 }
@@ -2,9 +2,12 @@ package com.apple.appleplayground.domain.image.repository;
 
 import com.apple.appleplayground.domain.auth.entity.User;
 import com.apple.appleplayground.domain.image.entity.Image;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,9 +17,9 @@ import org.springframework.stereotype.Repository;
 public interface ImageRepository extends JpaRepository<Image, Long> {
     
     /**
-     * 특정 사용자가 업로드한 이미지 조회 (최신순)
+     * 특정 사용자가 업로드한 이미지 조회 (최신순, COUNT 없이 size + 1개 조회)
      */
-    Page<Image> findByUploadedByOrderByCreatedAtDesc(User uploadedBy, Pageable pageable);
+    Slice<Image> findByUploadedByOrderByCreatedAtDesc(User uploadedBy, Pageable pageable);
     
     /**
      * 파일명으로 이미지 조회
@@ -27,4 +30,11 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
      * 특정 사용자의 이미지 개수
      */
     long countByUploadedBy(User uploadedBy);
+    
+    /**
+     * 업로더가 일치할 때만 이미지 삭제 (삭제된 행 수 반환, 동시 삭제 시 한 요청만 1을 받음)
+     */
+    @Modifying
+    @Query("DELETE FROM Image i WHERE i.id = :id AND i.uploadedBy.id = :userId")
+    int deleteByIdAndUploadedById(@Param("id") Long id, @Param("userId") Long userId);
 }
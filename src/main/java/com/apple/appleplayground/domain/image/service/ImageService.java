@@ -7,11 +7,12 @@ import com.apple.appleplayground.domain.image.entity.Image;
 import com.apple.appleplayground.domain.image.repository.ImageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -30,6 +31,7 @@ public class ImageService {
     private final ImageRepository imageRepository;
     private final UserRepository userRepository;
     private final AwsS3Service awsS3Service;
+    private final TransactionTemplate transactionTemplate;
     
     // 파일 크기 임계값 (5MB) - 이보다 크면 비동기 업로드
     private static final long ASYNC_UPLOAD_THRESHOLD = 5 * 1024 * 1024;
@@ -39,7 +41,8 @@ public class ImageService {
      */
     @Transactional
     public CompletableFuture<ImageResponse> uploadImage(Long userId, MultipartFile file) {
-        User user = findUserById(userId);
+        // 업로더는 인증된 사용자이므로 조회 없이 참조만 연결 (업로드 콜백에서는 ID만 사용)
+        User user = userRepository.getReferenceById(userId);
         
         // 파일 검증
         validateImageFile(file);
@@ -74,7 +77,7 @@ public class ImageService {
                             user
                     );
                     
-                    Image savedImage = imageRepository.save(image);
+                    Image savedImage = saveImage(image, user.getId());
                     log.info("Async image upload completed: {} by user {}", savedImage.getId(), user.getId());
                     
                     return ImageResponse.from(savedImage);
@@ -104,7 +107,7 @@ public class ImageService {
                         user
                 );
                 
-                Image savedImage = imageRepository.save(image);
+                Image savedImage = saveImage(image, user.getId());
                 log.info("Sync image upload completed: {} by user {}", savedImage.getId(), user.getId());
                 
                 return ImageResponse.from(savedImage);
@@ -129,7 +132,7 @@ public class ImageService {
      */
     public List<ImageResponse> getUserImages(Long userId, Pageable pageable) {
         User user = findUserById(userId);
-        Page<Image> images = imageRepository.findByUploadedByOrderByCreatedAtDesc(user, pageable);
+        Slice<Image> images = imageRepository.findByUploadedByOrderByCreatedAtDesc(user, pageable);
         
         return images.getContent().stream()
                 .map(ImageResponse::from)
@@ -143,16 +146,20 @@ public class ImageService {
     public CompletableFuture<Void> deleteImage(Long imageId, Long currentUserId) {
         Image image = findImageById(imageId);
         
-        // 업로드 권한 확인
-        if (!image.isUploadedBy(findUserById(currentUserId))) {
+        // 업로드 권한 확인 (외래 키 ID 비교, 사용자 조회 없음)
+        if (!image.isUploadedBy(currentUserId)) {
             throw new IllegalArgumentException("이미지 삭제 권한이 없습니다.");
         }
         
         // 비동기로 S3에서 삭제
         return awsS3Service.deleteFileAsync(image.getFileName())
                 .thenRun(() -> {
-                    // DB에서 삭제
-                    imageRepository.delete(image);
+                    // DB에서 삭제 (이미 삭제된 경우 이미지 수를 다시 줄이지 않도록 삭제된 행 수 확인)
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (imageRepository.deleteByIdAndUploadedById(imageId, currentUserId) == 1) {
+                            userRepository.addImagesCount(currentUserId, -1);
+                        }
+                    });
                     log.info("Image deleted: {} by user {}", imageId, currentUserId);
                 })
                 .exceptionally(throwable -> {
@@ -161,6 +168,18 @@ public class ImageService {
                 });
     }
     
+    /**
+     * 이미지 저장과 업로더의 이미지 수 증가를 하나의 트랜잭션으로 처리
+     * 업로드 완료 콜백은 요청 트랜잭션 밖에서 실행되므로 별도 트랜잭션을 연다.
+     */
+    private Image saveImage(Image image, Long userId) {
+        return transactionTemplate.execute(status -> {
+            Image savedImage = imageRepository.save(image);
+            userRepository.addImagesCount(userId, 1);
+            return savedImage;
+        });
+    }
+    
     /**
      * 이미지 파일 검증
      */
@@ -0,0 +1,71 @@
+package com.apple.appleplayground.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * 근사 개수 캐시 서비스
+ * 목록의 전체 개수(COUNT)를 노드 로컬에 보관하고, 갱신 주기가 지나면 기존 값을 그대로 반환하면서 백그라운드에서 다시 센다.
+ * 요청 경로에서는 처음 한 번을 제외하고 COUNT 쿼리가 실행되지 않는다.
+ */
+@Service
+@Slf4j
+public class ApproximateCountService {
+    
+    private final Cache<String, CountEntry> counts;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Executor executor;
+    private final long refreshIntervalMillis;
+    
+    public ApproximateCountService(@Qualifier("asyncExecutor") Executor executor,
+                                   @Value("${count-cache.refresh-interval:60s}") Duration refreshInterval,
+                                   @Value("${count-cache.max-size:10000}") long maxSize) {
+        this.executor = executor;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(refreshInterval.multipliedBy(10))
+                .build();
+    }
+    
+    /**
+     * 근사 개수 조회 (캐시에 없으면 counter로 세어 저장, 갱신 주기가 지났으면 백그라운드에서 갱신)
+     */
+    public long get(String key, LongSupplier counter) {
+        CountEntry entry = counts.get(key, k -> new CountEntry(counter.getAsLong(), System.currentTimeMillis()));
+        if (System.currentTimeMillis() - entry.countedAt() >= refreshIntervalMillis && refreshing.add(key)) {
+            executor.execute(() -> refresh(key, counter));
+        }
+        return entry.count();
+    }
+    
+    /**
+     * 캐시된 개수 제거 (다음 조회 시 다시 셈)
+     */
+    public void evict(String key) {
+        counts.invalidate(key);
+    }
+    
+    private void refresh(String key, LongSupplier counter) {
+        try {
+            counts.put(key, new CountEntry(counter.getAsLong(), System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh approximate count {}: {}", key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+    
+    private record CountEntry(long count, long countedAt) {
+    }
+}
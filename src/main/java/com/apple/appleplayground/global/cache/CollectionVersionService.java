@@ -0,0 +1,90 @@
+package com.apple.appleplayground.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 컬렉션 버전 서비스
+ * 목록 응답의 ETag를 만들기 위해 컬렉션별 버전을 Redis 카운터로 관리한다.
+ * 컬렉션 내용이 바뀌면 버전을 올리고, 목록 조회 시에는 버전만 읽어 변경 여부를 판단한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CollectionVersionService {
+    
+    private static final String VERSION_KEY_PREFIX = "version:";
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    /**
+     * 컬렉션 버전으로 만든 약한 ETag (버전을 읽을 수 없으면 null)
+     */
+    public String etag(String... collections) {
+        String version = version(collections);
+        return version != null ? "W/\"" + version + "\"" : null;
+    }
+    
+    /**
+     * 컬렉션 버전을 이어 붙인 문자열 (다른 값과 조합해 ETag를 만들 때 사용, 버전을 읽을 수 없으면 null)
+     */
+    public String version(String... collections) {
+        List<String> keys = Arrays.stream(collections)
+                .map(collection -> VERSION_KEY_PREFIX + collection)
+                .toList();
+        try {
+            List<String> versions = redisTemplate.opsForValue().multiGet(keys);
+            if (versions == null) {
+                return null;
+            }
+            return versions.stream()
+                    .map(value -> value != null ? value : "0")
+                    .collect(Collectors.joining("."));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read collection versions {}: {}", keys, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * 컬렉션 버전 증가 (트랜잭션 안에서 호출되면 커밋 이후 실행)
+     */
+    public void bump(String... collections) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpNow(collections);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumpNow(collections);
+            }
+        });
+    }
+    
+    private void bumpNow(String... collections) {
+        try {
+            // 여러 버전을 한 번에 올릴 때 왕복을 줄이기 위해 파이프라인으로 전송
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String collection : collections) {
+                    stringConnection.incr(VERSION_KEY_PREFIX + collection);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to bump collection versions {}: {}", Arrays.toString(collections), e.getMessage());
+        }
+    }
+}
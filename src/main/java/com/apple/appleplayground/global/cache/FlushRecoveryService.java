@@ -0,0 +1,154 @@
+package com.apple.appleplayground.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 반영 중(flushing) 해시 복구 서비스
+ * 대기 해시를 고유 키로 분리(RENAME)한 뒤 DB에 반영하는 작업에서, DB 반영에 실패하면 분리한 해시를 대기 해시로 되돌리고,
+ * 되돌리기 실패나 프로세스 종료로 남은 분리 해시는 주기적으로 찾아 되돌린다.
+ * 분리 키 이름에 생성 시각을 넣어 진행 중인 반영과 오래 남은 키를 구분한다.
+ * RENAME과 되돌리기 스크립트가 두 키를 함께 다루므로, Redis Cluster에서는 대기 키와 분리 키 접두사에 같은 해시 태그를 둬야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlushRecoveryService {
+    
+    private static final int SCAN_COUNT = 100;
+    
+    /**
+     * 분리한 해시를 대기 해시에 합치고 삭제하는 스크립트 (여러 노드가 같은 키를 되돌려도 한 번만 합쳐짐)
+     * KEYS: {분리 해시, 대기 해시}, ARGV: {합치는 방식 (increment: 값 더하기, keep: 대기 해시에 없는 필드만 쓰기)}
+     */
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+                if ARGV[1] == 'increment' then
+                    redis.call('HINCRBY', KEYS[2], entries[i], tonumber(entries[i + 1]))
+                else
+                    redis.call('HSETNX', KEYS[2], entries[i], entries[i + 1])
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            return #entries / 2
+            """, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    /**
+     * 분리 키 식별자 (생성 시각:난수)
+     */
+    public static String newFlushId() {
+        return System.currentTimeMillis() + ":" + UUID.randomUUID();
+    }
+    
+    /**
+     * 분리한 해시를 대기 해시로 되돌림 (실패하면 분리 키가 남고 sweep에서 다시 시도)
+     *
+     * @return 되돌렸으면 true
+     */
+    public boolean restore(String flushingKey, String pendingKey, MergeMode mode) {
+        try {
+            redisTemplate.execute(MERGE_SCRIPT, List.of(flushingKey, pendingKey), mode.argument());
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Failed to restore {} into {}, will retry on sweep: {}", flushingKey, pendingKey, e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 반영이 끝난 분리 해시 삭제 (실패해도 DB에는 이미 반영되었으므로 되돌리지 않음)
+     */
+    public void discard(List<String> flushingKeys) {
+        try {
+            redisTemplate.delete(flushingKeys);
+        } catch (DataAccessException e) {
+            // 남은 키는 sweep에서 다시 합쳐지므로 중복 반영될 수 있음
+            log.error("Failed to delete flushed keys {}: {}", flushingKeys, e.getMessage());
+        }
+    }
+    
+    /**
+     * 생성된 지 staleAfter 이상 지난 분리 해시를 찾아 대기 해시로 되돌림
+     * 반영 도중 종료되어 DB 커밋 여부를 알 수 없는 키도 되돌리므로, DB 커밋 직후 삭제 전에 종료된 경우에는 중복 반영될 수 있다.
+     *
+     * @param flushingPrefix 분리 키 접두사 (뒤에 newFlushId()가 붙은 키)
+     * @return 되돌린 키 수
+     */
+    public int sweep(String flushingPrefix, String pendingKey, MergeMode mode, Duration staleAfter) {
+        long staleBefore = System.currentTimeMillis() - staleAfter.toMillis();
+        List<String> staleKeys = new ArrayList<>();
+        
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(flushingPrefix + "*")
+                .count(SCAN_COUNT)
+                .build())) {
+            keys.forEachRemaining(key -> {
+                if (createdAt(key, flushingPrefix) < staleBefore) {
+                    staleKeys.add(key);
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to scan {}*: {}", flushingPrefix, e.getMessage());
+            return 0;
+        }
+        
+        int restored = 0;
+        for (String key : staleKeys) {
+            if (restore(key, pendingKey, mode)) {
+                restored++;
+            }
+        }
+        if (restored > 0) {
+            log.warn("Restored {} stale flushing keys {}* into {}", restored, flushingPrefix, pendingKey);
+        }
+        return restored;
+    }
+    
+    /**
+     * 분리 키의 생성 시각 (형식이 다르면 0으로 보고 오래된 키로 처리)
+     */
+    private static long createdAt(String key, String flushingPrefix) {
+        String flushId = key.substring(flushingPrefix.length());
+        int separator = flushId.indexOf(':');
+        try {
+            return Long.parseLong(separator > 0 ? flushId.substring(0, separator) : flushId);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    /**
+     * 분리한 해시를 대기 해시에 합치는 방식
+     */
+    public enum MergeMode {
+        /** 값을 더함 (변화량) */
+        INCREMENT("increment"),
+        /** 대기 해시에 없는 필드만 씀 (분리 이후 들어온 최신 값을 유지) */
+        KEEP_NEWER("keep");
+        
+        private final String argument;
+        
+        MergeMode(String argument) {
+            this.argument = argument;
+        }
+        
+        String argument() {
+            return argument;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.apple.appleplayground.global.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자, 단일 소비자, long 값 전용)
+ * 슬롯마다 시퀀스 번호를 두는 bounded 큐 방식(Vyukov)으로, 생산자는 CAS 한 번으로 슬롯을 예약해 기록하고
+ * 소비자는 기록이 끝난 슬롯만 순서대로 읽는다. 값은 박싱 없이 long 배열에 저장한다.
+ * 가득 차면 {@link #offer(long)}가 즉시 false를 반환하므로 호출 측에서 대체 경로를 정해야 한다.
+ */
+public class LongRingBuffer {
+    
+    private final int mask;
+    private final long[] values;
+    
+    // 슬롯 i의 시퀀스: 기록 가능하면 위치, 기록이 끝났으면 위치 + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱)
+     */
+    public LongRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.values = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * 값 추가 (여러 스레드에서 동시 호출 가능)
+     *
+     * @return 버퍼가 가득 차 추가하지 못하면 false
+     */
+    public boolean offer(long value) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    values[index] = value;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전의 값을 소비자가 아직 읽지 않음
+                return false;
+            } else {
+                // 다른 생산자가 먼저 예약함
+                position = tail.get();
+            }
+        }
+    }
+    
+    /**
+     * 기록이 끝난 값을 최대 limit개까지 꺼내 전달 (소비자 스레드 하나에서만 호출)
+     *
+     * @return 꺼낸 값의 수
+     */
+    public int drain(LongConsumer consumer, int limit) {
+        long position = head.get();
+        int count = 0;
+        while (count < limit) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            long value = values[index];
+            sequences.setRelease(index, position + values.length);
+            position++;
+            count++;
+            consumer.accept(value);
+        }
+        head.set(position);
+        return count;
+    }
+    
+    /**
+     * 대략적인 적재 수 (생산자가 예약했지만 아직 기록 중인 슬롯 포함)
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, values.length));
+    }
+    
+    public int capacity() {
+        return values.length;
+    }
+}
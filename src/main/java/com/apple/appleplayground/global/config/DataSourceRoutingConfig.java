@@ -0,0 +1,72 @@
+package com.apple.appleplayground.global.config;
+
+import com.apple.appleplayground.global.datasource.ReadYourWritesTracker;
+import com.apple.appleplayground.global.datasource.ReplicaDataSourceProperties;
+import com.apple.appleplayground.global.datasource.ReplicaLagMonitor;
+import com.apple.appleplayground.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (datasource.replica.enabled=true일 때만)
+ * 주 DB 풀은 spring.datasource 설정을 그대로 사용하고, readOnly 트랜잭션은 LazyConnectionDataSourceProxy가
+ * 첫 쿼리 시점에 복제본 라우팅 DataSource에서 커넥션을 받는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate redisTemplate,
+                                                       ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(redisTemplate, properties.getStickyWindow());
+    }
+    
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaDataSourceProperties properties,
+                                                             ReadYourWritesTracker readYourWritesTracker) {
+        List<HikariDataSource> replicas = properties.getPools().stream()
+                .map(DataSourceRoutingConfig::createReplicaPool)
+                .toList();
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker::isSticky);
+    }
+    
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReplicaDataSourceProperties properties) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, properties.getMaxLag());
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+    
+    private static HikariDataSource createReplicaPool(HikariConfig config) {
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+}
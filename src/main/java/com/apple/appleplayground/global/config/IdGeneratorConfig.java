@@ -0,0 +1,35 @@
+package com.apple.appleplayground.global.config;
+
+import com.apple.appleplayground.global.id.TsidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 ID 생성기 설정
+ * 설정된 노드 ID로 전역 {@link TsidGenerator}를 교체하며, EntityManagerFactory보다 먼저 초기화된다.
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+    
+    @Bean
+    public TsidGenerator tsidGenerator(@Value("${id.node-id:0}") int nodeId,
+                                       @Value("${id.max-clock-drift:5000}") long maxClockDriftMillis) {
+        TsidGenerator generator = new TsidGenerator(nodeId, maxClockDriftMillis);
+        TsidGenerator.install(generator);
+        log.info("TSID generator installed with node id {}", nodeId);
+        return generator;
+    }
+    
+    @Component
+    static class TsidEntityManagerFactoryDependsOnPostProcessor extends EntityManagerFactoryDependsOnPostProcessor {
+        
+        TsidEntityManagerFactoryDependsOnPostProcessor() {
+            super("tsidGenerator");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.apple.appleplayground.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(스케줄러) 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
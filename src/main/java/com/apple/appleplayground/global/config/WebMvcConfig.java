@@ -0,0 +1,21 @@
+package com.apple.appleplayground.global.config;
+
+import com.apple.appleplayground.global.json.RenderedJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 미리 직렬화한 JSON 응답은 Jackson 컨버터보다 먼저 처리
+        converters.add(0, new RenderedJsonHttpMessageConverter());
+    }
+}
@@ -0,0 +1,121 @@
+package com.apple.appleplayground.global.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 텍스트 컬럼 압축 저장 컨버터
+ * 저장 값 앞에 형식 헤더를 붙여 deflate 압축(Base64) 또는 원문으로 저장하고,
+ * 헤더가 없는 기존 행은 원문 그대로 읽는다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+    
+    /**
+     * deflate 압축 형식 헤더
+     */
+    public static final String DEFLATE_HEADER = "\u0001D:";
+    
+    /**
+     * 원문 형식 헤더 (압축 이득이 없는 짧은 텍스트)
+     */
+    public static final String RAW_HEADER = "\u0001R:";
+    
+    // 이보다 짧은 텍스트는 압축하지 않음
+    private static final int MIN_COMPRESS_LENGTH = 512;
+    
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute != null ? encode(attribute) : null;
+    }
+    
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return dbData != null ? decode(dbData) : null;
+    }
+    
+    /**
+     * 텍스트를 저장 형식으로 변환
+     */
+    public static String encode(String text) {
+        if (text.length() < MIN_COMPRESS_LENGTH) {
+            return RAW_HEADER + text;
+        }
+        
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        String encoded = Base64.getEncoder().encodeToString(deflate(utf8));
+        // 저장 크기(바이트)로 비교: Base64는 문자당 1바이트, 한글 원문은 문자당 3바이트
+        if (encoded.length() >= utf8.length) {
+            return RAW_HEADER + text;
+        }
+        return DEFLATE_HEADER + encoded;
+    }
+    
+    /**
+     * 저장 형식을 텍스트로 변환 (헤더가 없으면 기존 원문)
+     */
+    public static String decode(String stored) {
+        if (stored.startsWith(DEFLATE_HEADER)) {
+            byte[] compressed = Base64.getDecoder().decode(stored.substring(DEFLATE_HEADER.length()));
+            return new String(inflate(compressed), StandardCharsets.UTF_8);
+        }
+        if (stored.startsWith(RAW_HEADER)) {
+            return stored.substring(RAW_HEADER.length());
+        }
+        return stored;
+    }
+    
+    /**
+     * 저장 형식으로 변환된 값인지 확인
+     */
+    public static boolean isEncoded(String stored) {
+        return stored.startsWith(DEFLATE_HEADER) || stored.startsWith(RAW_HEADER);
+    }
+    
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+                }
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문을 해제할 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
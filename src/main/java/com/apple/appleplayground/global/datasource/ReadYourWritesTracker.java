@@ -0,0 +1,72 @@
+package com.apple.appleplayground.global.datasource;
+
+import com.apple.appleplayground.domain.auth.dto.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * 자신이 쓴 데이터 읽기 보장 (read-your-writes)
+ * 사용자의 쓰기 트랜잭션이 커밋되면 일정 시간 동안 그 사용자의 읽기를 주 DB로 보낸다.
+ * 여러 인스턴스가 같은 판단을 하도록 표식은 Redis에 TTL로 남긴다.
+ */
+@Slf4j
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+    
+    private static final String KEY_PREFIX = "db:sticky:";
+    
+    private final StringRedisTemplate redisTemplate;
+    private final Duration stickyWindow;
+    
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration stickyWindow) {
+        this.redisTemplate = redisTemplate;
+        this.stickyWindow = stickyWindow;
+    }
+    
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+            return;
+        }
+        
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", stickyWindow);
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark user {} as primary-sticky: {}", userId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 현재 사용자의 읽기를 주 DB로 보내야 하는지 여부
+     * Redis를 확인할 수 없으면 최신 데이터를 보장하도록 주 DB를 선택한다.
+     */
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (DataAccessException e) {
+            return true;
+        }
+    }
+    
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
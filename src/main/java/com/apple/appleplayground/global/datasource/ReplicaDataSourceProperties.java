@@ -0,0 +1,40 @@
+package com.apple.appleplayground.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정 (datasource.replica)
+ * 복제본마다 HikariCP 설정(jdbc-url, maximum-pool-size 등)을 따로 지정한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+    
+    /**
+     * 복제본 라우팅 사용 여부
+     */
+    private boolean enabled;
+    
+    /**
+     * 이보다 복제 지연이 큰 복제본은 읽기 대상에서 제외
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+    
+    /**
+     * 사용자가 쓰기를 커밋한 뒤 그 사용자의 읽기를 주 DB로 보내는 시간
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    
+    /**
+     * 복제본 커넥션 풀 설정
+     */
+    private List<HikariConfig> pools = new ArrayList<>();
+}
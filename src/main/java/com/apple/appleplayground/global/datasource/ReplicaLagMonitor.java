@@ -0,0 +1,50 @@
+package com.apple.appleplayground.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본의 복제 지연 주기 확인
+ * MySQL의 SHOW REPLICA STATUS에서 Seconds_Behind_Source를 읽는다. (복제본 계정에 REPLICATION CLIENT 권한 필요)
+ * 복제가 멈췄거나(NULL) 확인에 실패한 복제본은 다음 확인까지 읽기 대상에서 제외된다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final long maxLagSeconds;
+    
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+    
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void check() {
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            replica.update(lagOf(replica), maxLagSeconds);
+        }
+    }
+    
+    private long lagOf(ReplicaRoutingDataSource.Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                // 복제 설정이 없는 인스턴스
+                return -1;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? -1 : lag;
+        } catch (SQLException e) {
+            log.debug("Failed to check lag of replica {}: {}", replica.name(), e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.apple.appleplayground.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 읽기 전용 커넥션을 복제본으로 보내는 DataSource
+ * LazyConnectionDataSourceProxy의 읽기 전용 대상으로 등록되어, readOnly 트랜잭션의 첫 쿼리 시점에 커넥션을 고른다.
+ * 정상 상태(복제 지연이 한도 이내)인 복제본을 돌아가며 사용하고, 사용할 복제본이 없거나
+ * 현재 사용자가 방금 쓰기를 한 경우에는 주 DB 커넥션을 돌려준다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final BooleanSupplier stickyToPrimary;
+    private final AtomicInteger next = new AtomicInteger();
+    
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, BooleanSupplier stickyToPrimary) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.stickyToPrimary = stickyToPrimary;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (stickyToPrimary.getAsBoolean()) {
+            return primary.getConnection();
+        }
+        
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                log.warn("Replica {} unavailable, excluding until next lag check: {}", replica.name(), e.getMessage());
+                replica.healthy = false;
+            }
+        }
+        return primary.getConnection();
+    }
+    
+    /**
+     * 계정을 지정한 커넥션은 주 DB에서 받음 (복제본 풀은 풀에 설정된 계정만 사용)
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+    
+    /**
+     * 복제본 목록 (복제 지연 확인용)
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+    
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}: {}", replica.name(), e.getMessage());
+                }
+            }
+        }
+    }
+    
+    /**
+     * 복제본 상태
+     * 시작 직후에는 복제 지연을 확인하기 전까지 읽기 대상에서 제외한다.
+     */
+    public static final class Replica {
+        
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+        
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+        
+        public DataSource dataSource() {
+            return dataSource;
+        }
+        
+        public String name() {
+            return dataSource instanceof HikariDataSource hikari ? hikari.getPoolName() : dataSource.toString();
+        }
+        
+        public boolean isHealthy() {
+            return healthy;
+        }
+        
+        public long lagSeconds() {
+            return lagSeconds;
+        }
+        
+        /**
+         * 복제 지연 확인 결과 반영 (lagSeconds가 음수면 복제가 멈췄거나 확인할 수 없음)
+         */
+        public void update(long lagSeconds, long maxLagSeconds) {
+            boolean nowHealthy = lagSeconds >= 0 && lagSeconds <= maxLagSeconds;
+            if (nowHealthy != healthy) {
+                log.info("Replica {} is now {} (lag {}s)", name(), nowHealthy ? "in rotation" : "excluded", lagSeconds);
+            }
+            this.lagSeconds = lagSeconds;
+            this.healthy = nowHealthy;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.apple.appleplayground.global.dto;
+
+/**
+ * 목록 응답의 조회 방식
+ */
+public enum ListMode {
+    
+    /**
+     * 오프셋 페이지, 정확한 전체 개수 포함
+     */
+    PAGE,
+    
+    /**
+     * 오프셋 페이지, 전체 개수는 주기적으로 갱신되는 근사값 (다음 페이지 여부는 정확)
+     */
+    APPROXIMATE_PAGE,
+    
+    /**
+     * 오프셋 페이지, 전체 개수 없이 size + 1개 조회로 다음 페이지 여부만 판단
+     */
+    SLICE,
+    
+    /**
+     * 커서 기반 조회, 전체 개수 없음
+     */
+    CURSOR
+}
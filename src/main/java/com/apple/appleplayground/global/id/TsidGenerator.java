@@ -0,0 +1,127 @@
+package com.apple.appleplayground.global.id;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 시간순 정렬 가능한 ID 생성기 (Snowflake/TSID 방식)
+ * ID = 타임스탬프(41비트, ms) | 노드 ID(5비트) | 시퀀스(7비트)
+ * 전체 53비트로 JavaScript Number에서도 정밀도 손실 없이 다룰 수 있고, 값의 대소가 생성 시각 순서와 같다.
+ *
+ * 마지막으로 발급한 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 잠금이 없다.
+ * 시스템 시계가 조금 뒤로 가면 마지막 발급 시각의 시퀀스를 이어 써서 계속 증가하는 ID를 발급하고,
+ * 한 ms의 시퀀스(128개)를 모두 쓰면 시계가 따라올 때까지 기다린다.
+ * 시계가 허용 범위 이상 뒤로 가면 중복 위험이 있으므로 발급을 거부한다.
+ */
+public class TsidGenerator {
+    
+    /**
+     * 타임스탬프 기준 시각 (2024-01-01T00:00:00Z, 이후 약 69년 사용 가능)
+     */
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    
+    private static volatile TsidGenerator current = new TsidGenerator(0, 5_000);
+    
+    private final long nodeBits;
+    private final long maxClockDriftMillis;
+    
+    // (기준 시각 이후 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+    
+    /**
+     * @param nodeId 노드 ID (0 ~ 31, 동시에 실행되는 인스턴스마다 달라야 함)
+     * @param maxClockDriftMillis 시계가 뒤로 갔을 때 발급을 계속할 최대 차이
+     */
+    public TsidGenerator(int nodeId, long maxClockDriftMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.maxClockDriftMillis = maxClockDriftMillis;
+    }
+    
+    /**
+     * 애플리케이션 전역 생성기 (Hibernate ID 생성기와 JDBC 일괄 삽입에서 사용)
+     */
+    public static TsidGenerator current() {
+        return current;
+    }
+    
+    /**
+     * 애플리케이션 전역 생성기 교체 (설정의 노드 ID 적용)
+     */
+    public static void install(TsidGenerator generator) {
+        current = generator;
+    }
+    
+    /**
+     * 다음 ID 발급
+     */
+    public long nextId() {
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            long last = state.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // 같은 ms이거나 시계가 뒤로 간 경우: 마지막 발급 시각의 시퀀스를 이어 씀
+                long behind = lastMillis - now;
+                if (behind > maxClockDriftMillis) {
+                    throw new IllegalStateException(
+                            "시스템 시계가 ID 생성 시각보다 " + behind + "ms 뒤에 있어 ID를 발급할 수 없습니다.");
+                }
+                if ((last & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    // 시퀀스 소진: 시계가 다음 ms로 넘어갈 때까지 대기
+                    if (behind > 0) {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(behind));
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                    continue;
+                }
+                next = last + 1;
+            }
+            
+            if (state.compareAndSet(last, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+    
+    /**
+     * 주어진 시각의 ID (과거 데이터를 가져올 때 원래 작성 시각 순서를 유지하기 위함)
+     * 하위 비트(노드 ID + 시퀀스)는 임의 값이므로 같은 ms의 기존 ID와 겹치지 않는지는 호출하는 쪽에서 확인해야 한다.
+     * 기준 시각 이전은 기준 시각으로 맞춘다.
+     */
+    public static long randomIdAt(Instant instant) {
+        long millis = Math.max(instant.toEpochMilli() - EPOCH_MILLIS, 0);
+        return (millis << TIMESTAMP_SHIFT) | ThreadLocalRandom.current().nextLong(1L << TIMESTAMP_SHIFT);
+    }
+    
+    /**
+     * ID가 발급된 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+    
+    /**
+     * 주어진 시각 이후에 발급되는 ID의 하한 (시각 기준 키셋 조회용)
+     */
+    public static long minIdAt(Instant instant) {
+        return Math.max(instant.toEpochMilli() - EPOCH_MILLIS, 0) << TIMESTAMP_SHIFT;
+    }
+}
@@ -0,0 +1,16 @@
+package com.apple.appleplayground.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link TsidGenerator}를 사용하는 Hibernate ID 생성기
+ * ID를 INSERT 전에 애플리케이션에서 정하므로 IDENTITY와 달리 JDBC 배치 삽입이 가능하다.
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+    
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TsidGenerator.current().nextId();
+    }
+}
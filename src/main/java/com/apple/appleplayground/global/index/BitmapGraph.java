@@ -0,0 +1,359 @@
+package com.apple.appleplayground.global.index;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 방향 그래프 인접 색인 (노드마다 나가는/들어오는 간선을 Roaring 비트맵으로 보관)
+ * 64비트 노드 ID(TSID)는 비트맵에 그대로 넣으면 값이 흩어져 압축되지 않으므로, 처음 등장한 순서대로 0부터 촘촘한
+ * 순번을 붙여 32비트 비트맵에 담는다. 순번은 간선이 모두 지워져도 회수하지 않으며 재생성 시 다시 매긴다.
+ *
+ * 비트맵은 동시 읽기/쓰기에 안전하지 않으므로 읽기/쓰기 잠금으로 보호한다. 읽기는 서로 막지 않는다.
+ */
+public class BitmapGraph {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap ordinals = new LongIntHashMap(INITIAL_CAPACITY);
+    
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private RoaringBitmap[] outgoing = new RoaringBitmap[INITIAL_CAPACITY];
+    private RoaringBitmap[] incoming = new RoaringBitmap[INITIAL_CAPACITY];
+    private int nodeCount;
+    private long edgeCount;
+    
+    /**
+     * 간선 추가
+     *
+     * @return 새로 추가되었으면 true (이미 있으면 false)
+     */
+    public boolean addEdge(long from, long to) {
+        lock.writeLock().lock();
+        try {
+            int source = ordinalOrAssign(from);
+            int target = ordinalOrAssign(to);
+            if (!bitmap(outgoing, source).checkedAdd(target)) {
+                return false;
+            }
+            bitmap(incoming, target).add(source);
+            edgeCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 간선 제거
+     *
+     * @return 제거되었으면 true (없었으면 false)
+     */
+    public boolean removeEdge(long from, long to) {
+        lock.writeLock().lock();
+        try {
+            int source = ordinals.get(from);
+            int target = ordinals.get(to);
+            if (source < 0 || target < 0 || outgoing[source] == null || !outgoing[source].checkedRemove(target)) {
+                return false;
+            }
+            incoming[target].remove(source);
+            edgeCount--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 간선 존재 여부
+     */
+    public boolean hasEdge(long from, long to) {
+        lock.readLock().lock();
+        try {
+            int source = ordinals.get(from);
+            int target = ordinals.get(to);
+            return source >= 0 && target >= 0 && outgoing[source] != null && outgoing[source].contains(target);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 나가는 간선 수
+     */
+    public int outDegree(long id) {
+        lock.readLock().lock();
+        try {
+            return cardinality(outgoing, ordinals.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 들어오는 간선 수
+     */
+    public int inDegree(long id) {
+        lock.readLock().lock();
+        try {
+            return cardinality(incoming, ordinals.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 양방향 간선이 있는 이웃 수 (나가는 간선 ∩ 들어오는 간선)
+     */
+    public long countMutual(long id) {
+        lock.readLock().lock();
+        try {
+            int node = ordinals.get(id);
+            if (node < 0 || outgoing[node] == null || incoming[node] == null) {
+                return 0;
+            }
+            return RoaringBitmap.andCardinality(outgoing[node], incoming[node]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 두 노드가 공통으로 가리키는 노드 수 (나가는 간선끼리의 교집합)
+     */
+    public long countCommonOutgoing(long a, long b) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap left = bitmapOf(outgoing, ordinals.get(a));
+            RoaringBitmap right = bitmapOf(outgoing, ordinals.get(b));
+            return left != null && right != null ? RoaringBitmap.andCardinality(left, right) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 두 노드가 공통으로 가리키는 노드 ID (순번 순, 최대 limit개)
+     */
+    public long[] commonOutgoing(long a, long b, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap left = bitmapOf(outgoing, ordinals.get(a));
+            RoaringBitmap right = bitmapOf(outgoing, ordinals.get(b));
+            if (left == null || right == null || limit < 1) {
+                return new long[0];
+            }
+            return toIds(RoaringBitmap.and(left, right), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 전체 노드 수 (간선이 한 번이라도 있었던 노드)
+     */
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 전체 간선 수
+     */
+    public long edgeCount() {
+        lock.readLock().lock();
+        try {
+            return edgeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 메모리 사용량 추정 (비트맵 + 순번 테이블 + 배열, 객체 헤더 포함 근사값)
+     */
+    public MemoryUsage memoryUsage() {
+        lock.readLock().lock();
+        try {
+            long bitmapBytes = 0;
+            for (int i = 0; i < nodeCount; i++) {
+                bitmapBytes += sizeOf(outgoing[i]) + sizeOf(incoming[i]);
+            }
+            // ID 배열 + 비트맵 참조 배열 2개 (압축 참조 4바이트) + 순번 해시 테이블
+            long indexBytes = (long) ids.length * Long.BYTES
+                    + 2L * outgoing.length * Integer.BYTES
+                    + ordinals.sizeInBytes();
+            return new MemoryUsage(nodeCount, edgeCount, bitmapBytes, indexBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 일괄 적재 후 비트맵 압축 (연속 구간은 run 컨테이너로 바꾸고 남는 용량 반환)
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < nodeCount; i++) {
+                optimize(outgoing[i]);
+                optimize(incoming[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private int ordinalOrAssign(long id) {
+        int ordinal = ordinals.get(id);
+        if (ordinal >= 0) {
+            return ordinal;
+        }
+        if (nodeCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            outgoing = Arrays.copyOf(outgoing, capacity);
+            incoming = Arrays.copyOf(incoming, capacity);
+        }
+        ordinals.put(id, nodeCount);
+        ids[nodeCount] = id;
+        return nodeCount++;
+    }
+    
+    private long[] toIds(RoaringBitmap bitmap, int limit) {
+        long[] result = new long[Math.min(limit, bitmap.getCardinality())];
+        IntIterator iterator = bitmap.getIntIterator();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids[iterator.next()];
+        }
+        return result;
+    }
+    
+    private static RoaringBitmap bitmap(RoaringBitmap[] bitmaps, int ordinal) {
+        RoaringBitmap bitmap = bitmaps[ordinal];
+        if (bitmap == null) {
+            bitmap = new RoaringBitmap();
+            bitmaps[ordinal] = bitmap;
+        }
+        return bitmap;
+    }
+    
+    private static RoaringBitmap bitmapOf(RoaringBitmap[] bitmaps, int ordinal) {
+        return ordinal >= 0 ? bitmaps[ordinal] : null;
+    }
+    
+    private static int cardinality(RoaringBitmap[] bitmaps, int ordinal) {
+        RoaringBitmap bitmap = bitmapOf(bitmaps, ordinal);
+        return bitmap != null ? bitmap.getCardinality() : 0;
+    }
+    
+    private static long sizeOf(RoaringBitmap bitmap) {
+        return bitmap != null ? bitmap.getLongSizeInBytes() : 0;
+    }
+    
+    private static void optimize(RoaringBitmap bitmap) {
+        if (bitmap != null) {
+            bitmap.runOptimize();
+            bitmap.trim();
+        }
+    }
+    
+    /**
+     * 메모리 사용량
+     *
+     * @param bitmapBytes 인접 비트맵 크기
+     * @param indexBytes ID ↔ 순번 변환 테이블 크기
+     */
+    public record MemoryUsage(int nodes, long edges, long bitmapBytes, long indexBytes) {
+        
+        public long totalBytes() {
+            return bitmapBytes + indexBytes;
+        }
+        
+        public double bytesPerEdge() {
+            return edges > 0 ? (double) totalBytes() / edges : 0;
+        }
+    }
+    
+    /**
+     * long → int 열린 주소 해시 테이블 (HashMap<Long, Integer>와 달리 박싱 객체 없이 배열 두 개, 적재율 50% 이하 유지)
+     * 0은 빈 칸 표식으로 쓰므로 키는 0이 아니어야 한다. (TSID는 항상 양수)
+     */
+    private static final class LongIntHashMap {
+        
+        private long[] keys;
+        private int[] values;
+        private int size;
+        
+        LongIntHashMap(int capacity) {
+            keys = new long[capacity * 2];
+            values = new int[capacity * 2];
+        }
+        
+        int get(long key) {
+            if (key == 0) {
+                return -1;
+            }
+            int mask = keys.length - 1;
+            for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                if (keys[slot] == 0) {
+                    return -1;
+                }
+            }
+        }
+        
+        void put(long key, int value) {
+            if (key == 0) {
+                throw new IllegalArgumentException("노드 ID는 0일 수 없습니다.");
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            insert(keys, values, key, value);
+            size++;
+        }
+        
+        long sizeInBytes() {
+            return (long) keys.length * Long.BYTES + (long) values.length * Integer.BYTES;
+        }
+        
+        private void resize() {
+            long[] newKeys = new long[keys.length * 2];
+            int[] newValues = new int[values.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    insert(newKeys, newValues, keys[i], values[i]);
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+        
+        private static void insert(long[] keys, int[] values, long key, int value) {
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+        
+        private static int slotOf(long key, int mask) {
+            // TSID 하위 12비트는 노드 ID와 시퀀스라 값이 몰리므로 곱셈 해시로 상위 비트(시간)까지 섞어 고르게 분산
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
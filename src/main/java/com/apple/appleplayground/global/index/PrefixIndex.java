@@ -0,0 +1,251 @@
+package com.apple.appleplayground.global.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 접두사 자동완성 색인
+ * 노드마다 점수 상위 k개 후보를 미리 보관하는 trie로, 조회는 입력 길이만큼 노드를 따라가면 끝난다.
+ * 문자열의 각 단어 시작 위치부터 색인하므로 단어 중간부터 입력해도 찾을 수 있다.
+ *
+ * 쓰기는 직렬화하고 읽기는 잠금 없이 수행한다. 노드의 자식/후보 배열은 새 배열로 교체해 갱신하므로
+ * 읽는 쪽은 항상 완성된 배열만 본다.
+ * 메모리는 최대 깊이와 최대 노드 수로 제한한다. 최대 깊이보다 긴 입력은 가장 깊은 노드의 후보를 문자열로 걸러 답하고,
+ * 노드 수가 한도에 이르면 새 접두사는 더 이상 색인하지 않는다.
+ * 삭제된 후보 자리는 다른 후보로 채워지지 않으므로 주기적으로 다시 만들어 정확도를 회복한다.
+ */
+public class PrefixIndex<T> {
+    
+    private final int topK;
+    private final int maxDepth;
+    private final int maxNodes;
+    private final int maxTokens;
+    
+    private final Node root = new Node();
+    private volatile int nodeCount = 1;
+    
+    /**
+     * @param topK 노드별 후보 수 (조회 가능한 최대 결과 수)
+     * @param maxDepth 색인할 최대 접두사 길이
+     * @param maxNodes 최대 노드 수
+     * @param maxTokens 문자열마다 색인할 최대 단어 수
+     */
+    public PrefixIndex(int topK, int maxDepth, int maxNodes, int maxTokens) {
+        if (topK < 1 || maxDepth < 1 || maxNodes < 1 || maxTokens < 1) {
+            throw new IllegalArgumentException("색인 설정 값은 1 이상이어야 합니다.");
+        }
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxTokens = maxTokens;
+    }
+    
+    /**
+     * 후보 추가 (같은 값이 이미 있으면 점수만 갱신)
+     */
+    public synchronized void add(String text, T value, long score) {
+        String normalized = normalize(text);
+        Entry<T> entry = new Entry<>(value, normalized, score);
+        
+        for (int start : tokenStarts(normalized)) {
+            Node node = root;
+            int end = Math.min(normalized.length(), start + maxDepth);
+            for (int i = start; i < end; i++) {
+                Node child = node.child(normalized.charAt(i));
+                if (child == null) {
+                    if (nodeCount >= maxNodes) {
+                        break;
+                    }
+                    child = node.addChild(normalized.charAt(i));
+                    nodeCount++;
+                }
+                child.offer(entry, topK);
+                node = child;
+            }
+        }
+    }
+    
+    /**
+     * 후보 제거 (추가할 때와 같은 문자열로 호출해야 함)
+     */
+    public synchronized void remove(String text, T value) {
+        String normalized = normalize(text);
+        
+        for (int start : tokenStarts(normalized)) {
+            Node node = root;
+            int end = Math.min(normalized.length(), start + maxDepth);
+            for (int i = start; i < end && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+                if (node != null) {
+                    node.discard(value);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 접두사로 시작하는 후보를 점수순으로 조회
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> search(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        
+        Node node = root;
+        int depth = Math.min(normalized.length(), maxDepth);
+        for (int i = 0; i < depth; i++) {
+            node = node.child(normalized.charAt(i));
+            if (node == null) {
+                return List.of();
+            }
+        }
+        
+        boolean truncated = normalized.length() > maxDepth;
+        Entry<?>[] entries = node.entries;
+        List<T> result = new ArrayList<>(Math.min(limit, entries.length));
+        for (Entry<?> entry : entries) {
+            if (truncated && !entry.matches(normalized)) {
+                continue;
+            }
+            result.add((T) entry.value());
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 현재 노드 수
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+    
+    /**
+     * 노드 수 한도 도달 여부
+     */
+    public boolean isFull() {
+        return nodeCount >= maxNodes;
+    }
+    
+    /**
+     * 비교용 문자열 정규화 (소문자, 연속 공백 하나로)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+    
+    private int[] tokenStarts(String normalized) {
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        
+        int[] starts = new int[maxTokens];
+        int count = 0;
+        starts[count++] = 0;
+        for (int i = 1; i < normalized.length() && count < maxTokens; i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                starts[count++] = i;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+    
+    /**
+     * 후보 (정규화된 문자열을 함께 보관해 최대 깊이를 넘는 입력을 거를 때 사용)
+     */
+    private record Entry<T>(T value, String normalized, long score) {
+        
+        boolean matches(String prefix) {
+            return normalized.startsWith(prefix) || normalized.contains(" " + prefix);
+        }
+    }
+    
+    /**
+     * trie 노드
+     * 자식은 문자순으로 정렬된 배열에서 이진 탐색하고, 후보는 점수 내림차순 배열로 보관한다.
+     */
+    private static final class Node {
+        
+        private static final Children EMPTY_CHILDREN = new Children(new char[0], new Node[0]);
+        private static final Entry<?>[] EMPTY_ENTRIES = new Entry<?>[0];
+        
+        private volatile Children children = EMPTY_CHILDREN;
+        private volatile Entry<?>[] entries = EMPTY_ENTRIES;
+        
+        Node child(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys(), c);
+            return index >= 0 ? current.nodes()[index] : null;
+        }
+        
+        Node addChild(char c) {
+            Children current = children;
+            int insertAt = -Arrays.binarySearch(current.keys(), c) - 1;
+            int size = current.keys().length;
+            
+            char[] keys = new char[size + 1];
+            Node[] nodes = new Node[size + 1];
+            System.arraycopy(current.keys(), 0, keys, 0, insertAt);
+            System.arraycopy(current.nodes(), 0, nodes, 0, insertAt);
+            System.arraycopy(current.keys(), insertAt, keys, insertAt + 1, size - insertAt);
+            System.arraycopy(current.nodes(), insertAt, nodes, insertAt + 1, size - insertAt);
+            
+            Node child = new Node();
+            keys[insertAt] = c;
+            nodes[insertAt] = child;
+            children = new Children(keys, nodes);
+            return child;
+        }
+        
+        void offer(Entry<?> entry, int topK) {
+            List<Entry<?>> next = new ArrayList<>(topK + 1);
+            for (Entry<?> existing : entries) {
+                if (!existing.value().equals(entry.value())) {
+                    next.add(existing);
+                }
+            }
+            if (next.size() >= topK && next.get(next.size() - 1).score() >= entry.score()) {
+                if (next.size() < entries.length) {
+                    // 같은 값의 이전 후보를 점수가 낮아져 밀어낸 경우
+                    entries = next.toArray(EMPTY_ENTRIES);
+                }
+                return;
+            }
+            
+            int insertAt = 0;
+            while (insertAt < next.size() && next.get(insertAt).score() >= entry.score()) {
+                insertAt++;
+            }
+            next.add(insertAt, entry);
+            if (next.size() > topK) {
+                next.remove(next.size() - 1);
+            }
+            entries = next.toArray(EMPTY_ENTRIES);
+        }
+        
+        void discard(Object value) {
+            Entry<?>[] current = entries;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].value().equals(value)) {
+                    Entry<?>[] next = new Entry<?>[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    entries = next;
+                    return;
+                }
+            }
+        }
+    }
+    
+    private record Children(char[] keys, Node[] nodes) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.apple.appleplayground.global.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 미리 직렬화한 JSON 템플릿
+ * 변하지 않는 부분은 UTF-8 바이트로 한 번만 직렬화해 두고, 자주 바뀌는 숫자 필드만 응답할 때 끼워 넣는다.
+ * 숫자 필드에 PLACEHOLDER를 넣어 직렬화한 바이트를 받아 그 값 위치를 슬롯으로 기억한다.
+ * (문자열 안의 따옴표는 항상 이스케이프되므로 "필드명":값 패턴은 실제 필드에서만 나타난다.)
+ */
+public final class JsonTemplate {
+    
+    /**
+     * 템플릿을 만들 때 슬롯 필드에 넣는 값
+     */
+    public static final int PLACEHOLDER = Integer.MIN_VALUE;
+    
+    private static final byte[] PLACEHOLDER_BYTES = String.valueOf(PLACEHOLDER).getBytes(StandardCharsets.US_ASCII);
+    
+    private final byte[] json;
+    private final int[] slotStarts;
+    
+    private JsonTemplate(byte[] json, int[] slotStarts) {
+        this.json = json;
+        this.slotStarts = slotStarts;
+    }
+    
+    /**
+     * 직렬화된 JSON에서 필드 순서대로 슬롯 위치를 찾아 템플릿 생성
+     *
+     * @param json 슬롯 필드 값이 PLACEHOLDER인 JSON 바이트
+     * @param fields 슬롯으로 사용할 필드명 (JSON에 나타나는 순서대로)
+     */
+    public static JsonTemplate of(byte[] json, String... fields) {
+        int[] slotStarts = new int[fields.length];
+        int from = 0;
+        for (int i = 0; i < fields.length; i++) {
+            byte[] pattern = ("\"" + fields[i] + "\":" + PLACEHOLDER).getBytes(StandardCharsets.UTF_8);
+            int index = indexOf(json, pattern, from);
+            if (index < 0) {
+                throw new IllegalArgumentException("템플릿에서 슬롯 필드를 찾을 수 없습니다: " + fields[i]);
+            }
+            slotStarts[i] = index + pattern.length - PLACEHOLDER_BYTES.length;
+            from = index + pattern.length;
+        }
+        return new JsonTemplate(json, slotStarts);
+    }
+    
+    /**
+     * 슬롯 값을 채운 응답 생성 (본문 바이트는 복사하지 않고 템플릿을 공유)
+     */
+    public RenderedJson render(Integer... values) {
+        if (values.length != slotStarts.length) {
+            throw new IllegalArgumentException("슬롯 값 개수가 맞지 않습니다.");
+        }
+        
+        byte[][] valueBytes = new byte[values.length][];
+        long length = json.length - (long) slotStarts.length * PLACEHOLDER_BYTES.length;
+        for (int i = 0; i < values.length; i++) {
+            valueBytes[i] = String.valueOf(values[i]).getBytes(StandardCharsets.US_ASCII);
+            length += valueBytes[i].length;
+        }
+        return new RenderedJson(this, valueBytes, length);
+    }
+    
+    /**
+     * 템플릿 크기 (바이트, 캐시 가중치용)
+     */
+    public int size() {
+        return json.length;
+    }
+    
+    byte[] json() {
+        return json;
+    }
+    
+    int slotStart(int index) {
+        return slotStarts[index];
+    }
+    
+    static int placeholderLength() {
+        return PLACEHOLDER_BYTES.length;
+    }
+    
+    private static int indexOf(byte[] source, byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= source.length - pattern.length; i++) {
+            if (source[i] != pattern[0]) {
+                continue;
+            }
+            for (int j = 1; j < pattern.length; j++) {
+                if (source[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+    
+    @Override
+    public String toString() {
+        return "JsonTemplate[" + json.length + " bytes, slots=" + Arrays.toString(slotStarts) + "]";
+    }
+}
@@ -0,0 +1,57 @@
+package com.apple.appleplayground.global.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 슬롯 값을 채운 JSON 응답
+ * 출력 스트림에 템플릿 바이트 구간과 슬롯 값을 번갈아 그대로 쓴다. (RenderedJsonHttpMessageConverter가 응답으로 출력)
+ */
+public final class RenderedJson {
+    
+    private final JsonTemplate template;
+    private final byte[][] values;
+    private final long contentLength;
+    
+    RenderedJson(JsonTemplate template, byte[][] values, long contentLength) {
+        this.template = template;
+        this.values = values;
+        this.contentLength = contentLength;
+    }
+    
+    /**
+     * 응답 본문 크기 (바이트)
+     */
+    public long contentLength() {
+        return contentLength;
+    }
+    
+    /**
+     * 출력 스트림에 JSON 쓰기
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] json = template.json();
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            int slotStart = template.slotStart(i);
+            out.write(json, position, slotStart - position);
+            out.write(values[i]);
+            position = slotStart + JsonTemplate.placeholderLength();
+        }
+        out.write(json, position, json.length - position);
+    }
+    
+    @Override
+    public String toString() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) contentLength);
+        try {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.apple.appleplayground.global.json;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * 미리 직렬화한 JSON(RenderedJson)을 Jackson을 거치지 않고 응답 스트림에 바로 쓰는 컨버터
+ */
+public class RenderedJsonHttpMessageConverter extends AbstractHttpMessageConverter<RenderedJson> {
+    
+    public RenderedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RenderedJson.class.isAssignableFrom(clazz);
+    }
+    
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    protected RenderedJson readInternal(Class<? extends RenderedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("RenderedJson은 응답 전용입니다.", inputMessage);
+    }
+    
+    @Override
+    protected Long getContentLength(RenderedJson json, MediaType contentType) {
+        return json.contentLength();
+    }
+    
+    @Override
+    protected void writeInternal(RenderedJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,291 @@
+package com.apple.appleplayground.domain.blog.service;
+
+import com.apple.appleplayground.domain.auth.entity.Role;
+import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.domain.blog.dto.PostCounts;
+import com.apple.appleplayground.domain.blog.dto.request.UpdateBlogPostRequest;
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostBatchResponse;
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostListResponse;
+import com.apple.appleplayground.domain.blog.dto.response.BlogPostResponse;
+import com.apple.appleplayground.domain.blog.entity.BlogPost;
+import com.apple.appleplayground.global.cache.ApproximateCountService;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.dto.ListMode;
+import com.apple.appleplayground.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 블로그 목록 조회가 페이지 크기와 무관하게 일정한 수의 SQL만 실행하는지,
+ * 수정/삭제가 사용자를 조회하지 않고 작성자 ID로 권한을 확인하는지 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaConfig.class, BlogPostService.class})
+class BlogPostServiceQueryCountTest {
+    
+    private static final int POST_COUNT = 30;
+    
+    @Autowired
+    private BlogPostService blogPostService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @MockitoBean
+    private ViewCountService viewCountService;
+    
+    @MockitoBean
+    private LikeService likeService;
+    
+    @MockitoBean
+    private BlogSearchService blogSearchService;
+    
+    @MockitoBean
+    private PostSuggestService postSuggestService;
+    
+    @MockitoBean
+    private PostCacheService postCacheService;
+    
+    @MockitoBean
+    private PostCounterService postCounterService;
+    
+    @MockitoBean
+    private TrendingService trendingService;
+    
+    @MockitoBean
+    private TimelineService timelineService;
+    
+    @MockitoBean
+    private MarkdownRenderService markdownRenderService;
+    
+    @MockitoBean
+    private CollectionVersionService collectionVersionService;
+    
+    @MockitoBean
+    private ApproximateCountService approximateCountService;
+    
+    private final List<BlogPost> posts = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        // 포스트마다 작성자를 달리해 작성자 지연 로딩이 있으면 쿼리 수가 늘어나도록 구성
+        for (int i = 0; i < POST_COUNT; i++) {
+            User author = User.builder()
+                    .githubId("gh-" + i)
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .role(Role.USER)
+                    .build();
+            entityManager.persist(author);
+            
+            BlogPost post = BlogPost.create("title " + i, "content " + i, author);
+            entityManager.persist(post);
+            posts.add(post);
+        }
+    }
+    
+    @Test
+    void getAllPostsRunsConstantStatements() {
+        given(approximateCountService.get(anyString(), any())).willReturn((long) POST_COUNT);
+        
+        long small = countStatements(() -> blogPostService.getAllPosts(PageRequest.of(0, 5), true));
+        long large = countStatements(() -> blogPostService.getAllPosts(PageRequest.of(0, 20), true));
+        
+        // 목록 + 작성자 일괄 조회 (전체 개수는 근사 개수 캐시 사용)
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+    
+    @Test
+    void getAllPostsWithoutTotalSkipsCount() {
+        long statements = countStatements(() -> blogPostService.getAllPosts(PageRequest.of(0, 5), false));
+        BlogPostListResponse response = blogPostService.getAllPosts(PageRequest.of(0, 5), false);
+        
+        // 목록(size + 1개) + 작성자 일괄 조회
+        assertThat(statements).isEqualTo(2);
+        assertThat(response.getMode()).isEqualTo(ListMode.SLICE);
+        assertThat(response.getPosts()).hasSize(5);
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.isLast()).isFalse();
+    }
+    
+    @Test
+    void getAllPostsWithCursorRunsConstantStatements() {
+        long small = countStatements(() -> blogPostService.getAllPosts((String) null, 5));
+        long large = countStatements(() -> blogPostService.getAllPosts((String) null, 20));
+        
+        // 목록 + 작성자 일괄 조회
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+    
+    @Test
+    void getUserPostsRunsConstantStatements() {
+        Long authorId = posts.get(0).getAuthor().getId();
+        
+        long small = countStatements(() -> blogPostService.getUserPosts(authorId, PageRequest.of(0, 5), false));
+        long large = countStatements(() -> blogPostService.getUserPosts(authorId, PageRequest.of(0, 20), false));
+        
+        assertThat(large).isEqualTo(small);
+    }
+    
+    @Test
+    void searchPostsRunsConstantStatements() {
+        List<BlogSearchService.SearchHit> hits = posts.stream()
+                .map(post -> new BlogSearchService.SearchHit(post.getId(), null))
+                .toList();
+        given(blogSearchService.search(anyString(), anyInt(), anyInt()))
+                .willAnswer(invocation -> {
+                    int size = invocation.getArgument(2);
+                    return new BlogSearchService.SearchResult(hits.subList(0, size), hits.size());
+                });
+        
+        long small = countStatements(() -> blogPostService.searchPosts("content", PageRequest.of(0, 5)));
+        long large = countStatements(() -> blogPostService.searchPosts("content", PageRequest.of(0, 20)));
+        
+        // 포스트 요약 + 작성자 일괄 조회
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+    
+    @Test
+    void getPostLoadsAuthorInSingleStatementOnCacheMiss() {
+        Long postId = posts.get(0).getId();
+        given(postCacheService.get(anyLong(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        given(postCounterService.get(postId)).willReturn(new PostCounts(0, 0));
+        
+        long statements = countStatements(() -> blogPostService.getPost(postId, false));
+        
+        assertThat(statements).isEqualTo(1);
+    }
+    
+    @Test
+    void getPostsByIdsLoadsCacheMissesInSingleStatement() {
+        List<Long> ids = List.of(posts.get(2).getId(), -1L, posts.get(0).getId(), posts.get(1).getId());
+        given(postCacheService.getAll(any(), any()))
+                .willAnswer(invocation -> invocation.<Function<Collection<Long>, List<BlogPostResponse>>>getArgument(1)
+                        .apply(invocation.getArgument(0)).stream()
+                        .collect(Collectors.toMap(BlogPostResponse::getId, Function.identity())));
+        given(postCounterService.getAll(any())).willReturn(Map.of());
+        
+        long statements = countStatements(() -> blogPostService.getPostsByIds(ids));
+        BlogPostBatchResponse response = blogPostService.getPostsByIds(ids);
+        
+        // 포스트 + 작성자를 IN 절 한 번으로 조회
+        assertThat(statements).isEqualTo(1);
+        assertThat(response.getPosts()).extracting(BlogPostResponse::getId)
+                .containsExactly(posts.get(2).getId(), posts.get(0).getId(), posts.get(1).getId());
+        assertThat(response.getMissingIds()).containsExactly(-1L);
+    }
+    
+    @Test
+    void getPostsByIdsRejectsNullId() {
+        List<Long> ids = Arrays.asList(posts.get(0).getId(), null);
+        
+        assertThatThrownBy(() -> blogPostService.getPostsByIds(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void updatePostChecksOwnershipWithoutLoadingUser() {
+        BlogPost post = posts.get(0);
+        UpdateBlogPostRequest request = new UpdateBlogPostRequest();
+        ReflectionTestUtils.setField(request, "title", "updated title");
+        ReflectionTestUtils.setField(request, "content", "updated content");
+        
+        long statements = countStatements(() -> blogPostService.updatePost(post.getId(), post.getAuthor().getId(), request));
+        
+        // 포스트 + 작성자 조회, 포스트 UPDATE
+        assertThat(statements).isEqualTo(2);
+    }
+    
+    @Test
+    void updatePostRejectsOtherUser() {
+        BlogPost post = posts.get(0);
+        Long otherUserId = posts.get(1).getAuthor().getId();
+        
+        assertThatThrownBy(() -> blogPostService.updatePost(post.getId(), otherUserId, new UpdateBlogPostRequest()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("권한");
+    }
+    
+    @Test
+    void deletePostUsesConditionalDelete() {
+        BlogPost post = posts.get(0);
+        Long authorId = post.getAuthor().getId();
+        
+        long statements = countStatements(() -> {
+            blogPostService.deletePost(post.getId(), authorId);
+            return null;
+        });
+        
+        // 좋아요 삭제, 작성자 조건부 포스트 삭제, 포스트 수 UPDATE
+        assertThat(statements).isEqualTo(3);
+        assertThat(entityManager.find(BlogPost.class, post.getId())).isNull();
+    }
+    
+    @Test
+    void deletePostRejectsOtherUser() {
+        BlogPost post = posts.get(0);
+        Long otherUserId = posts.get(1).getAuthor().getId();
+        
+        assertThatThrownBy(() -> blogPostService.deletePost(post.getId(), otherUserId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("권한");
+    }
+    
+    @Test
+    void deletePostRejectsMissingPost() {
+        Long authorId = posts.get(0).getAuthor().getId();
+        
+        assertThatThrownBy(() -> blogPostService.deletePost(-1L, authorId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는");
+    }
+    
+    private long countStatements(Supplier<?> action) {
+        entityManager.flush();
+        entityManager.clear();
+        
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        
+        action.get();
+        // 쓰기 지연된 UPDATE/INSERT도 포함하도록 flush
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
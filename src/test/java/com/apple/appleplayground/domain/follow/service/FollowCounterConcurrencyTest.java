@@ -0,0 +1,202 @@
+package com.apple.appleplayground.domain.follow.service;
+
+import com.apple.appleplayground.domain.auth.entity.Role;
+import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.domain.blog.service.TimelineService;
+import com.apple.appleplayground.domain.follow.dto.response.FollowStatusResponse;
+import com.apple.appleplayground.domain.follow.repository.FollowCountDeltaRepository;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 사용자를 동시에 팔로우해도 팔로워/팔로잉 수 변화가 하나도 유실되지 않는지,
+ * 반영 트랜잭션이 변화량을 잠그고 있는 동안에도 새 팔로우가 막히지 않는지 검증
+ * 각 팔로우가 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않고 만든 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaConfig.class, FollowService.class, FollowCounterService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FollowCounterConcurrencyTest {
+    
+    private static final int FOLLOWER_COUNT = 1000;
+    private static final int THREADS = 8;
+    private static final String USERNAME_PREFIX = "parallel-";
+    
+    @Autowired
+    private FollowService followService;
+    
+    @Autowired
+    private FollowCounterService followCounterService;
+    
+    @Autowired
+    private FollowCountDeltaRepository followCountDeltaRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @MockitoBean
+    private TimelineService timelineService;
+    
+    @MockitoBean
+    private CollectionVersionService collectionVersionService;
+    
+    @MockitoBean
+    private FollowGraphService followGraphService;
+    
+    private Long celebrityId;
+    private final List<Long> fanIds = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            celebrityId = createUser(USERNAME_PREFIX + "celebrity").getId();
+            for (int i = 0; i < FOLLOWER_COUNT; i++) {
+                fanIds.add(createUser(USERNAME_PREFIX + "fan" + i).getId());
+            }
+        });
+    }
+    
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM FollowCountDelta").executeUpdate();
+            entityManager.createQuery("DELETE FROM Follow").executeUpdate();
+            entityManager.createQuery("DELETE FROM User u WHERE u.username LIKE :prefix")
+                    .setParameter("prefix", USERNAME_PREFIX + "%")
+                    .executeUpdate();
+        });
+    }
+    
+    @Test
+    void parallelFollowsLoseNoUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean following = new AtomicBoolean(true);
+        
+        List<Future<FollowStatusResponse>> follows = new ArrayList<>();
+        for (Long fanId : fanIds) {
+            follows.add(executor.submit(() -> {
+                start.await();
+                return followService.followUser(fanId, celebrityId);
+            }));
+        }
+        // 팔로우가 진행되는 동안 변화량 반영도 함께 실행
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (following.get()) {
+                followCounterService.flush();
+            }
+            return null;
+        });
+        
+        start.countDown();
+        for (Future<FollowStatusResponse> follow : follows) {
+            assertThat(follow.get(60, TimeUnit.SECONDS).isFollowing()).isTrue();
+        }
+        following.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        
+        // 반영 전후 모두 팔로워 수는 팔로우 횟수와 같아야 함
+        assertThat(followService.getFollowStatus(fanIds.get(0), celebrityId).getFollowersCount()).isEqualTo(FOLLOWER_COUNT);
+        followCounterService.flush();
+        assertThat(followCountDeltaRepository.count()).isZero();
+        
+        User celebrity = transactionTemplate.execute(status -> entityManager.find(User.class, celebrityId));
+        User fan = transactionTemplate.execute(status -> entityManager.find(User.class, fanIds.get(FOLLOWER_COUNT - 1)));
+        assertThat(celebrity.getFollowersCount()).isEqualTo(FOLLOWER_COUNT);
+        assertThat(fan.getFollowingCount()).isEqualTo(1);
+        assertThat(followService.getFollowStatus(fanIds.get(0), celebrityId).getFollowersCount()).isEqualTo(FOLLOWER_COUNT);
+    }
+    
+    @Test
+    void followsAreNotBlockedWhileFlushHoldsLockedDeltas() throws Exception {
+        int lockedFollows = 10;
+        for (int i = 0; i < lockedFollows; i++) {
+            followService.followUser(fanIds.get(i), celebrityId);
+        }
+        
+        // 반영 트랜잭션이 변화량을 잠근 채 열려 있는 상태를 만든다 (flush와 같은 격리 수준과 잠금 조회)
+        TransactionTemplate flushTransaction = new TransactionTemplate(transactionManager);
+        flushTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Integer> holder = executor.submit(() -> flushTransaction.execute(status -> {
+            int size = followCountDeltaRepository.findOldestForUpdate(PageRequest.of(0, 500)).size();
+            locked.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return size;
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        
+        // 잠금이 풀리기 전에 새 팔로우(변화량 INSERT)가 끝나야 함
+        Future<?> follows = executor.submit(() -> {
+            for (int i = lockedFollows; i < lockedFollows * 2; i++) {
+                followService.followUser(fanIds.get(i), celebrityId);
+            }
+            return null;
+        });
+        follows.get(5, TimeUnit.SECONDS);
+        assertThat(holder.isDone()).isFalse();
+        
+        release.countDown();
+        assertThat(holder.get(10, TimeUnit.SECONDS)).isEqualTo(lockedFollows);
+        executor.shutdown();
+        
+        followCounterService.flush();
+        User celebrity = transactionTemplate.execute(status -> entityManager.find(User.class, celebrityId));
+        assertThat(celebrity.getFollowersCount()).isEqualTo(lockedFollows * 2);
+        assertThat(followCountDeltaRepository.count()).isZero();
+    }
+    
+    private User createUser(String username) {
+        User user = User.builder()
+                .githubId("gh-" + username)
+                .username(username)
+                .email(username + "@example.com")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,195 @@
+package com.apple.appleplayground.domain.follow.service;
+
+import com.apple.appleplayground.domain.auth.entity.Role;
+import com.apple.appleplayground.domain.auth.entity.User;
+import com.apple.appleplayground.domain.blog.service.TimelineService;
+import com.apple.appleplayground.domain.follow.dto.response.FollowStatusResponse;
+import com.apple.appleplayground.domain.follow.entity.Follow;
+import com.apple.appleplayground.global.cache.CollectionVersionService;
+import com.apple.appleplayground.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+/**
+ * 팔로워/팔로잉 목록 조회가 페이지 크기와 무관하게 일정한 수의 SQL만 실행하는지,
+ * 팔로우/언팔로우가 사용자를 조회하거나 users 행을 갱신하지 않고 ID로 처리되는지 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaConfig.class, FollowService.class, FollowCounterService.class})
+class FollowServiceQueryCountTest {
+    
+    private static final int FOLLOWER_COUNT = 30;
+    
+    @Autowired
+    private FollowService followService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @MockitoBean
+    private TimelineService timelineService;
+    
+    @MockitoBean
+    private CollectionVersionService collectionVersionService;
+    
+    @MockitoBean
+    private FollowGraphService followGraphService;
+    
+    private User celebrity;
+    
+    @BeforeEach
+    void setUp() {
+        celebrity = createUser("celebrity");
+        for (int i = 0; i < FOLLOWER_COUNT; i++) {
+            User follower = createUser("fan" + i);
+            entityManager.persist(Follow.create(follower, celebrity));
+            entityManager.persist(Follow.create(celebrity, follower));
+        }
+    }
+    
+    @Test
+    void getFollowersRunsConstantStatements() {
+        Long userId = celebrity.getId();
+        
+        long small = countStatements(() -> followService.getFollowers(userId, PageRequest.of(0, 5), true));
+        long large = countStatements(() -> followService.getFollowers(userId, PageRequest.of(0, 20), true));
+        
+        // 사용자 조회 + 목록 (전체 개수는 사용자의 팔로워 수 카운터를 사용하므로 COUNT 없음)
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+    
+    @Test
+    void getFollowingRunsConstantStatements() {
+        Long userId = celebrity.getId();
+        
+        long small = countStatements(() -> followService.getFollowing(userId, PageRequest.of(0, 5), false));
+        long large = countStatements(() -> followService.getFollowing(userId, PageRequest.of(0, 20), false));
+        
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+    
+    @Test
+    void followUserDoesNotLoadUsers() {
+        Long currentUserId = createUser("newcomer").getId();
+        Long targetUserId = celebrity.getId();
+        
+        long statements = countStatements(() -> followService.followUser(currentUserId, targetUserId));
+        FollowStatusResponse status = followService.getFollowStatus(currentUserId, targetUserId);
+        
+        // 관계 존재 확인, 대상 존재 확인, 관계 INSERT, 팔로워/팔로잉 수 변화량 INSERT, 응답용 카운트 조회
+        assertThat(statements).isEqualTo(5);
+        assertThat(status.isFollowing()).isTrue();
+    }
+    
+    @Test
+    void followUserChecksExistingFollowInDatabaseWhenGraphReady() {
+        Long currentUserId = createUser("newcomer").getId();
+        Long targetUserId = celebrity.getId();
+        given(followGraphService.isReady()).willReturn(true);
+        
+        long statements = countStatements(() -> followService.followUser(currentUserId, targetUserId));
+        
+        // 그래프는 다른 노드의 변경이 늦게 반영될 수 있으므로 중복 확인은 항상 DB에서
+        assertThat(statements).isEqualTo(5);
+        then(followGraphService).should(never()).isFollowing(any(), any());
+        then(followGraphService).should().follow(currentUserId, targetUserId);
+    }
+    
+    @Test
+    void followUserRejectsDuplicateMissingFromGraph() {
+        Long currentUserId = celebrity.getId();
+        Long targetUserId = followService.getFollowing(currentUserId, PageRequest.of(0, 1), false)
+                .getUsers().get(0).getId();
+        // 그래프가 팔로우 변경을 아직 받지 못한 상태
+        given(followGraphService.isReady()).willReturn(true);
+        given(followGraphService.isFollowing(currentUserId, targetUserId)).willReturn(false);
+        
+        assertThatThrownBy(() -> followService.followUser(currentUserId, targetUserId))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void getFollowStatusUsesGraphWhenReady() {
+        Long currentUserId = createUser("newcomer").getId();
+        Long targetUserId = celebrity.getId();
+        given(followGraphService.isReady()).willReturn(true);
+        given(followGraphService.isFollowing(currentUserId, targetUserId)).willReturn(true);
+        
+        long statements = countStatements(() -> followService.getFollowStatus(currentUserId, targetUserId));
+        
+        // 대상 사용자 조회만 (팔로우 여부는 그래프)
+        assertThat(statements).isEqualTo(1);
+        assertThat(followService.getFollowStatus(currentUserId, targetUserId).isFollowing()).isTrue();
+    }
+    
+    @Test
+    void followUserRejectsMissingTarget() {
+        Long currentUserId = celebrity.getId();
+        
+        assertThatThrownBy(() -> followService.followUser(currentUserId, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void unfollowUserUsesConditionalDelete() {
+        Long currentUserId = celebrity.getId();
+        Long targetUserId = followService.getFollowing(currentUserId, PageRequest.of(0, 1), false)
+                .getUsers().get(0).getId();
+        
+        long statements = countStatements(() -> followService.unfollowUser(currentUserId, targetUserId));
+        
+        // 조건부 관계 DELETE, 팔로워/팔로잉 수 변화량 INSERT, 응답용 카운트 조회 (users 행 UPDATE 없음)
+        assertThat(statements).isEqualTo(3);
+        assertThatThrownBy(() -> followService.unfollowUser(currentUserId, targetUserId))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    private User createUser(String username) {
+        User user = User.builder()
+                .githubId("gh-" + username)
+                .username(username)
+                .email(username + "@example.com")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+    
+    private long countStatements(Supplier<?> action) {
+        entityManager.flush();
+        entityManager.clear();
+        
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        
+        action.get();
+        // 쓰기 지연된 INSERT도 포함하도록 flush
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,73 @@
+package com.apple.appleplayground.global.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 링 버퍼가 여러 생산자와 단일 소비자 사이에서 값을 잃거나 중복하지 않는지 검증
+ */
+class LongRingBufferTest {
+    
+    @Test
+    void rejectsWhenFullAndAcceptsAfterDrain() {
+        LongRingBuffer buffer = new LongRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+        
+        AtomicLong sum = new AtomicLong();
+        assertThat(buffer.drain(sum::addAndGet, 2)).isEqualTo(2);
+        assertThat(sum.get()).isEqualTo(0 + 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.drain(sum::addAndGet, Integer.MAX_VALUE)).isEqualTo(3);
+        assertThat(sum.get()).isEqualTo(0 + 1 + 2 + 3 + 4);
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @Test
+    void concurrentProducersLoseNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        LongRingBuffer buffer = new LongRingBuffer(1024);
+        AtomicLong consumedCount = new AtomicLong();
+        AtomicLong consumedSum = new AtomicLong();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        
+        long expectedCount = (long) producers * perProducer;
+        while (consumedCount.get() < expectedCount) {
+            int drained = buffer.drain(consumedSum::addAndGet, 256);
+            consumedCount.addAndGet(drained);
+        }
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        
+        assertThat(consumedCount.get()).isEqualTo(expectedCount);
+        assertThat(consumedSum.get()).isEqualTo(producers * ((long) perProducer * (perProducer + 1) / 2));
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @Test
+    void rejectsCapacityNotPowerOfTwo() {
+        assertThatThrownBy(() -> new LongRingBuffer(1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
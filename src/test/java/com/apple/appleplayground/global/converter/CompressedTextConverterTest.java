@@ -0,0 +1,43 @@
+package com.apple.appleplayground.global.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문이 저장 크기(바이트) 기준으로 이득이 있을 때 압축되고, 원문으로 되돌아오는지 검증
+ */
+class CompressedTextConverterTest {
+    
+    private static final String KOREAN_PARAGRAPH = "오늘은 스프링 부트에서 캐시와 트랜잭션을 함께 쓸 때 주의할 점을 정리해 보았다. "
+            + "커밋 이후에 캐시를 무효화하지 않으면 다른 요청이 이전 값을 다시 적재할 수 있다. ";
+    
+    @Test
+    void compressesKoreanOnlyBody() {
+        String text = KOREAN_PARAGRAPH.repeat(20);
+        
+        String stored = CompressedTextConverter.encode(text);
+        
+        assertThat(stored).startsWith(CompressedTextConverter.DEFLATE_HEADER);
+        // 문자 수로는 원문보다 길 수 있지만 저장 바이트는 줄어야 함
+        assertThat(stored.getBytes(StandardCharsets.UTF_8).length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(CompressedTextConverter.decode(stored)).isEqualTo(text);
+    }
+    
+    @Test
+    void keepsShortTextRaw() {
+        String text = "짧은 본문";
+        
+        String stored = CompressedTextConverter.encode(text);
+        
+        assertThat(stored).isEqualTo(CompressedTextConverter.RAW_HEADER + text);
+        assertThat(CompressedTextConverter.decode(stored)).isEqualTo(text);
+    }
+    
+    @Test
+    void readsLegacyRowsWithoutHeader() {
+        assertThat(CompressedTextConverter.decode("기존 원문")).isEqualTo("기존 원문");
+    }
+}
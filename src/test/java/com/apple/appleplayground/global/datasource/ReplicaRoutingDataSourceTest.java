@@ -0,0 +1,102 @@
+package com.apple.appleplayground.global.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 읽기 전용 커넥션이 정상 복제본으로 가고, 지연/장애/방금 쓴 사용자는 주 DB로 가는지 검증
+ */
+class ReplicaRoutingDataSourceTest {
+    
+    private static final long MAX_LAG_SECONDS = 2;
+    
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final AtomicBoolean sticky = new AtomicBoolean();
+    
+    private ReplicaRoutingDataSource routingDataSource;
+    private LazyConnectionDataSourceProxy dataSource;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica.getConnection()).willReturn(replicaConnection);
+        
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), sticky::get);
+        dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+    }
+    
+    @Test
+    void readOnlyConnectionGoesToHealthyReplica() throws SQLException {
+        replica().update(0, MAX_LAG_SECONDS);
+        
+        assertThat(targetOf(true)).isSameAs(replicaConnection);
+        assertThat(targetOf(false)).isSameAs(primaryConnection);
+    }
+    
+    @Test
+    void replicaIsExcludedUntilLagIsChecked() throws SQLException {
+        assertThat(targetOf(true)).isSameAs(primaryConnection);
+    }
+    
+    @Test
+    void laggingOrStoppedReplicaFallsBackToPrimary() throws SQLException {
+        replica().update(MAX_LAG_SECONDS + 1, MAX_LAG_SECONDS);
+        assertThat(targetOf(true)).isSameAs(primaryConnection);
+        
+        replica().update(-1, MAX_LAG_SECONDS);
+        assertThat(targetOf(true)).isSameAs(primaryConnection);
+        
+        replica().update(1, MAX_LAG_SECONDS);
+        assertThat(targetOf(true)).isSameAs(replicaConnection);
+    }
+    
+    @Test
+    void userWhoJustWroteReadsFromPrimary() throws SQLException {
+        replica().update(0, MAX_LAG_SECONDS);
+        sticky.set(true);
+        
+        assertThat(targetOf(true)).isSameAs(primaryConnection);
+    }
+    
+    @Test
+    void unreachableReplicaIsExcludedAndPrimaryUsed() throws SQLException {
+        replica().update(0, MAX_LAG_SECONDS);
+        given(replica.getConnection()).willThrow(new SQLException("connection refused"));
+        
+        assertThat(targetOf(true)).isSameAs(primaryConnection);
+        assertThat(replica().isHealthy()).isFalse();
+    }
+    
+    private ReplicaRoutingDataSource.Replica replica() {
+        return routingDataSource.getReplicas().get(0);
+    }
+    
+    /**
+     * 트랜잭션 시작 시처럼 readOnly 플래그를 먼저 지정한 뒤 실제 커넥션을 꺼냄
+     */
+    private Connection targetOf(boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            connection.createStatement();
+            return ((ConnectionProxy) connection).getTargetConnection();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.apple.appleplayground.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시간순 ID 생성기가 여러 스레드에서도 중복 없이 증가하는 ID를 발급하는지 검증
+ */
+class TsidGeneratorTest {
+    
+    @Test
+    void idsIncreaseWithinThread() {
+        TsidGenerator generator = new TsidGenerator(3, 5_000);
+        
+        long previous = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        // JavaScript Number로 정확히 표현 가능한 범위
+        assertThat(previous).isLessThan(1L << 53);
+    }
+    
+    @Test
+    void idsAreUniqueAcrossThreads() throws InterruptedException {
+        TsidGenerator generator = new TsidGenerator(0, 5_000);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+    
+    @Test
+    void timestampIsRecoverableFromId() {
+        Instant before = Instant.now().minusMillis(1);
+        long id = new TsidGenerator(0, 5_000).nextId();
+        
+        assertThat(TsidGenerator.timestampOf(id)).isAfterOrEqualTo(before.minusMillis(5_000));
+        assertThat(id).isGreaterThanOrEqualTo(TsidGenerator.minIdAt(before.minusMillis(5_000)));
+    }
+    
+    @Test
+    void randomIdAtKeepsGivenTimestampOrder() {
+        Instant older = Instant.parse("2024-06-01T00:00:00Z");
+        Instant newer = older.plusMillis(1);
+        long olderId = TsidGenerator.randomIdAt(older);
+        long newerId = TsidGenerator.randomIdAt(newer);
+        
+        assertThat(TsidGenerator.timestampOf(olderId)).isEqualTo(older);
+        assertThat(TsidGenerator.timestampOf(newerId)).isEqualTo(newer);
+        assertThat(olderId).isLessThan(newerId).isLessThan(new TsidGenerator(0, 5_000).nextId());
+    }
+    
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE_ID + 1, 5_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.apple.appleplayground.global.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비트맵 그래프가 64비트 ID 간선의 추가/삭제와 교집합 계산을 정확히 하는지 검증
+ */
+class BitmapGraphTest {
+    
+    // TSID처럼 큰 64비트 ID
+    private static final long A = 700_000_000_000_001L;
+    private static final long B = 700_000_000_000_002L;
+    private static final long C = 700_000_000_000_003L;
+    private static final long D = 700_000_000_000_004L;
+    private static final long E = 700_000_000_000_005L;
+    
+    @Test
+    void addsAndRemovesEdgesIdempotently() {
+        BitmapGraph graph = new BitmapGraph();
+        
+        assertThat(graph.addEdge(A, B)).isTrue();
+        assertThat(graph.addEdge(A, B)).isFalse();
+        assertThat(graph.hasEdge(A, B)).isTrue();
+        assertThat(graph.hasEdge(B, A)).isFalse();
+        assertThat(graph.hasEdge(A, E)).isFalse();
+        assertThat(graph.outDegree(A)).isEqualTo(1);
+        assertThat(graph.inDegree(B)).isEqualTo(1);
+        assertThat(graph.edgeCount()).isEqualTo(1);
+        
+        assertThat(graph.removeEdge(A, B)).isTrue();
+        assertThat(graph.removeEdge(A, B)).isFalse();
+        assertThat(graph.removeEdge(D, E)).isFalse();
+        assertThat(graph.hasEdge(A, B)).isFalse();
+        assertThat(graph.inDegree(B)).isZero();
+        assertThat(graph.edgeCount()).isZero();
+    }
+    
+    @Test
+    void computesMutualAndCommonOutgoing() {
+        BitmapGraph graph = new BitmapGraph();
+        graph.addEdge(A, B);
+        graph.addEdge(B, A);
+        graph.addEdge(A, C);
+        graph.addEdge(C, A);
+        graph.addEdge(A, D);
+        graph.addEdge(E, B);
+        graph.addEdge(E, D);
+        graph.addEdge(E, C);
+        graph.optimize();
+        
+        // A와 서로 팔로우: B, C
+        assertThat(graph.countMutual(A)).isEqualTo(2);
+        assertThat(graph.countMutual(D)).isZero();
+        // A와 E가 함께 팔로우: B, C, D
+        assertThat(graph.countCommonOutgoing(A, E)).isEqualTo(3);
+        assertThat(graph.commonOutgoing(A, E, 10)).containsExactlyInAnyOrder(B, C, D);
+        assertThat(graph.commonOutgoing(A, E, 2)).hasSize(2);
+        assertThat(graph.commonOutgoing(A, 42L, 10)).isEmpty();
+    }
+    
+    @Test
+    void growsBeyondInitialCapacity() {
+        BitmapGraph graph = new BitmapGraph();
+        int users = 5_000;
+        for (long i = 1; i <= users; i++) {
+            graph.addEdge(A, A + i);
+            graph.addEdge(A + i, A);
+        }
+        
+        assertThat(graph.nodeCount()).isEqualTo(users + 1);
+        assertThat(graph.outDegree(A)).isEqualTo(users);
+        assertThat(graph.countMutual(A)).isEqualTo(users);
+        assertThat(graph.hasEdge(A + users, A)).isTrue();
+        
+        BitmapGraph.MemoryUsage usage = graph.memoryUsage();
+        assertThat(usage.edges()).isEqualTo(2L * users);
+        assertThat(usage.totalBytes()).isPositive();
+    }
+}
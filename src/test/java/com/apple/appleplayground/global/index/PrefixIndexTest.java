@@ -0,0 +1,64 @@
+package com.apple.appleplayground.global.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접두사 색인이 점수순 상위 후보를 돌려주고, 갱신/삭제와 메모리 한도를 지키는지 검증
+ */
+class PrefixIndexTest {
+    
+    @Test
+    void returnsTopScoredMatchesForWordPrefixes() {
+        PrefixIndex<String> index = new PrefixIndex<>(3, 20, 10_000, 8);
+        index.add("Spring Boot 시작하기", "a", 10);
+        index.add("Learning Spring", "b", 30);
+        index.add("Springfield diary", "c", 20);
+        index.add("Spring Data JPA", "d", 5);
+        index.add("Kotlin coroutines", "e", 100);
+        
+        assertThat(index.search("spr", 10)).containsExactly("b", "c", "a");
+        assertThat(index.search("  SPRING  d", 10)).containsExactly("d");
+        assertThat(index.search("boot", 10)).containsExactly("a");
+        assertThat(index.search("spr", 1)).containsExactly("b");
+        assertThat(index.search("java", 10)).isEmpty();
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+    
+    @Test
+    void updatesScoreAndRemovesEntries() {
+        PrefixIndex<String> index = new PrefixIndex<>(3, 20, 10_000, 8);
+        index.add("redis cache", "a", 1);
+        index.add("redis streams", "b", 2);
+        
+        index.add("redis cache", "a", 5);
+        assertThat(index.search("redis", 10)).containsExactly("a", "b");
+        
+        index.remove("redis cache", "a");
+        assertThat(index.search("redis", 10)).containsExactly("b");
+        assertThat(index.search("cache", 10)).isEmpty();
+    }
+    
+    @Test
+    void filtersPrefixesLongerThanMaxDepth() {
+        PrefixIndex<String> index = new PrefixIndex<>(5, 3, 10_000, 8);
+        index.add("abcdef", "a", 1);
+        index.add("abcxyz", "b", 2);
+        
+        assertThat(index.search("abc", 10)).containsExactly("b", "a");
+        assertThat(index.search("abcd", 10)).containsExactly("a");
+        assertThat(index.search("abcq", 10)).isEmpty();
+    }
+    
+    @Test
+    void stopsGrowingAtMaxNodes() {
+        PrefixIndex<String> index = new PrefixIndex<>(5, 20, 4, 8);
+        index.add("abcdef", "a", 1);
+        
+        assertThat(index.nodeCount()).isEqualTo(4);
+        assertThat(index.isFull()).isTrue();
+        assertThat(index.search("abc", 10)).containsExactly("a");
+        assertThat(index.search("abcd", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.apple.appleplayground.global.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 템플릿에 슬롯 값을 끼워 쓴 결과가 Jackson으로 직접 직렬화한 결과와 같은지 검증
+ */
+class JsonTemplateTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void rendersSameBytesAsFullSerialization() throws IOException {
+        // 본문에 슬롯과 같은 문자열이 있어도 이스케이프되므로 실제 필드만 슬롯이 됨
+        String content = "본문 \"viewCount\":-2147483648 \"likeCount\":" + JsonTemplate.PLACEHOLDER;
+        JsonTemplate template = JsonTemplate.of(objectMapper.writeValueAsBytes(post(content,
+                JsonTemplate.PLACEHOLDER, JsonTemplate.PLACEHOLDER)), "viewCount", "likeCount");
+        
+        RenderedJson rendered = template.render(1234, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rendered.writeTo(out);
+        
+        byte[] expected = objectMapper.writeValueAsBytes(post(content, 1234, null));
+        assertThat(out.toByteArray()).isEqualTo(expected);
+        assertThat(rendered.contentLength()).isEqualTo(expected.length);
+        assertThat(rendered.toString()).isEqualTo(new String(expected, StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void rejectsMissingSlot() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(post("content", 1, JsonTemplate.PLACEHOLDER));
+        
+        assertThatThrownBy(() -> JsonTemplate.of(json, "viewCount", "likeCount"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private Map<String, Object> post(String content, Integer viewCount, Integer likeCount) {
+        Map<String, Object> post = new LinkedHashMap<>();
+        post.put("id", 1L);
+        post.put("content", content);
+        post.put("viewCount", viewCount);
+        post.put("likeCount", likeCount);
+        post.put("liked", null);
+        return post;
+    }
+}